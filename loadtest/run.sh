@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+# 기본 모드(플랫폼 스레드)와 가상 스레드 모드(virtual-threads 프로파일)의 처리량/지연 비교
+# 사용법은 loadtest/README.md 참고
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+DURATION="${DURATION:-30s}"
+CONCURRENCY="${CONCURRENCY:-50 200 1000}"
+PROFILES="${PROFILES:-default virtual-threads}"
+RESULT_DIR="${ROOT_DIR}/loadtest/results/$(date +%Y%m%d-%H%M%S)"
+
+# 이름|경로 : 캐시된 화면, in-memory 색인 조회, DB 조회
+SCENARIOS=(
+    "articles|/articles"
+    "hashtag-suggest|/api/hashtags/suggest?prefix=j"
+    "comments|/api/comments?articleId=1"
+)
+
+for command in hey java curl; do
+    command -v "$command" > /dev/null || { echo "$command 가 필요합니다." >&2; exit 1; }
+done
+: "${LOCAL_DB_URL:?LOCAL_DB_URL 이 필요합니다.}"
+java -version 2>&1 | grep -qE 'version "(2[1-9]|[3-9][0-9])' || { echo "Java 21 이상이 필요합니다. (가상 스레드)" >&2; exit 1; }
+
+cd "$ROOT_DIR"
+./gradlew -q bootJar -PjavaVersion=21
+JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+mkdir -p "$RESULT_DIR"
+
+app_pid=""
+stop_app() {
+    if [[ -n "$app_pid" ]]; then
+        kill "$app_pid" 2> /dev/null || true
+        wait "$app_pid" 2> /dev/null || true
+        app_pid=""
+    fi
+}
+trap stop_app EXIT
+
+start_app() {
+    local profile="$1"
+    local profiles_arg=()
+    [[ "$profile" != "default" ]] && profiles_arg=("--spring.profiles.active=${profile}")
+    java -jar "$JAR" --server.port="$PORT" --logging.level.com.springboot.board=info --spring.jpa.show-sql=false "${profiles_arg[@]}" \
+        > "${RESULT_DIR}/${profile}-app.log" 2>&1 &
+    app_pid=$!
+    for _ in $(seq 1 120); do
+        curl -fs "${BASE_URL}/actuator/health" > /dev/null && return 0
+        sleep 1
+    done
+    echo "${profile} 모드로 서버를 시작하지 못했습니다. ${RESULT_DIR}/${profile}-app.log 참고" >&2
+    exit 1
+}
+
+printf "%-16s %-16s %6s %10s %10s %10s %8s\n" profile scenario c "req/s" "p50(s)" "p99(s)" "503" | tee "${RESULT_DIR}/summary.txt"
+for profile in $PROFILES; do
+    start_app "$profile"
+    for scenario in "${SCENARIOS[@]}"; do
+        name="${scenario%%|*}"
+        path="${scenario#*|}"
+        # 캐시/커넥션 풀/JIT 준비
+        hey -z 5s -c 20 "${BASE_URL}${path}" > /dev/null
+        for c in $CONCURRENCY; do
+            out="${RESULT_DIR}/${profile}-${name}-c${c}.txt"
+            hey -z "$DURATION" -c "$c" "${BASE_URL}${path}" > "$out"
+            rps="$(awk '/Requests\/sec/ {print $2}' "$out")"
+            p50="$(awk '/ 50% in/ {print $3}' "$out")"
+            p99="$(awk '/ 99% in/ {print $3}' "$out")"
+            rejected="$(awk '/\[503\]/ {print $2}' "$out")"
+            printf "%-16s %-16s %6s %10s %10s %10s %8s\n" "$profile" "$name" "$c" "$rps" "$p50" "$p99" "${rejected:-0}" | tee -a "${RESULT_DIR}/summary.txt"
+        done
+    done
+    stop_app
+done
+echo "결과 : ${RESULT_DIR}"
@@ -0,0 +1,126 @@
+package com.springboot.board;
+
+import com.springboot.board.domain.Article;
+import com.springboot.board.domain.ArticleComment;
+import com.springboot.board.domain.Hashtag;
+import com.springboot.board.domain.UserAccount;
+import com.springboot.board.dto.ArticleCommentDto;
+import com.springboot.board.dto.UserAccountDto;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+ * 벤치마크 데이터 생성기 : data.sql 의 모양을 따른다.
+ * - 게시글 본문 : lorem ipsum 문단 1~5개 + 마지막 줄에 해시태그 1~3개 (19개 색상 이름)
+ * - 댓글 : 최상위 댓글 + 약 30% 대댓글, Article.articleComments 처럼 createdAt DESC
+ * 같은 seed 로 항상 같은 데이터를 만든다.
+ */
+public final class BenchmarkFixtures {
+    public static final String[] HASHTAG_NAMES = {
+            "blue", "crimson", "fuscia", "goldenrod", "green", "indigo", "khaki", "maroon", "mauv", "orange",
+            "pink", "puce", "purple", "red", "teal", "turquoise", "violet", "yellow", "aquamarine"
+    };
+    private static final String[] SENTENCES = {
+            "Vestibulum quam sapien, varius ut, blandit non, interdum in, ante.",
+            "Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor.",
+            "Morbi vel lectus in quam fringilla rhoncus.",
+            "Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.",
+            "Proin leo odio, porttitor id, consequat in, consequat ut, nulla.",
+            "Phasellus in felis. Donec semper sapien a libero. Nam dui.",
+            "Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis.",
+            "퍼가요~ 좋은 글 감사합니다."
+    };
+    private static final LocalDateTime START = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    private BenchmarkFixtures() {}
+
+    public static UserAccount userAccount() {
+        return UserAccount.of("MJ", "{noop}m0501", "MJ@mail.com", "MJ", "I am MJ.");
+    }
+
+    public static UserAccountDto userAccountDto() {
+        return UserAccountDto.of("MJ", "{noop}m0501", "MJ@mail.com", "MJ", "I am MJ.", START, "MJ", START, "MJ");
+    }
+
+    public static String articleContent(Random random, int paragraphs) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < paragraphs; i++) {
+            int sentences = 1 + random.nextInt(3);
+            for (int j = 0; j < sentences; j++) {
+                content.append(SENTENCES[random.nextInt(SENTENCES.length)]).append(' ');
+            }
+            content.append("\n\n");
+        }
+        int hashtags = 1 + random.nextInt(3);
+        for (int i = 0; i < hashtags; i++) {
+            content.append('#').append(HASHTAG_NAMES[random.nextInt(HASHTAG_NAMES.length)]).append(' ');
+        }
+        return content.toString();
+    }
+
+    public static String articleContent(Random random) {
+        return articleContent(random, 1 + random.nextInt(5));
+    }
+
+    // 게시글 + 해시태그 + commentCount 개의 댓글 (엔티티는 영속 상태처럼 id, createdAt 을 채운다)
+    public static Article article(long id, int commentCount, Random random) {
+        UserAccount userAccount = userAccount();
+        String content = articleContent(random);
+        Article article = Article.of(userAccount, "Quisque ut erat.", content);
+        setField(article, "id", id);
+        setAuditingFields(article, START.plusDays(id));
+
+        for (String hashtagName : HASHTAG_NAMES) {
+            if (content.contains("#" + hashtagName + " ")) {article.addHashtag(Hashtag.of(hashtagName));}
+        }
+
+        List<ArticleComment> comments = new ArrayList<>(commentCount);
+        List<Long> rootIds = new ArrayList<>();
+        for (long commentId = 1; commentId <= commentCount; commentId++) {
+            ArticleComment comment = ArticleComment.of(article, userAccount, SENTENCES[random.nextInt(SENTENCES.length)]);
+            setField(comment, "id", commentId);
+            setAuditingFields(comment, START.plusDays(id).plusSeconds(commentId * 10));
+            if (!rootIds.isEmpty() && random.nextInt(10) < 3) {
+                comment.setParentCommentId(rootIds.get(random.nextInt(rootIds.size())));
+            } else {
+                rootIds.add(commentId);
+            }
+            comments.add(comment);
+        }
+        Collections.reverse(comments);
+        article.getArticleComments().addAll(comments);
+        return article;
+    }
+
+    // Article.articleComments 를 변환한 것과 같은 모양의 댓글 dto (createdAt DESC)
+    public static Set<ArticleCommentDto> articleCommentDtos(int commentCount, Random random) {
+        Set<ArticleCommentDto> dtos = new LinkedHashSet<>();
+        article(1L, commentCount, random).getArticleComments().forEach(comment -> dtos.add(ArticleCommentDto.from(comment)));
+        return dtos;
+    }
+
+    private static void setAuditingFields(Object entity, LocalDateTime createdAt) {
+        setField(entity, "createdAt", createdAt);
+        setField(entity, "createdBy", "MJ");
+        setField(entity, "modifiedAt", createdAt);
+        setField(entity, "modifiedBy", "MJ");
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스(AuditingFields)에서 찾는다.
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("필드를 찾을 수 없습니다. " + target.getClass().getSimpleName() + "." + name);
+    }
+}
@@ -0,0 +1,48 @@
+package com.springboot.board.dto;
+
+import com.springboot.board.BenchmarkFixtures;
+import com.springboot.board.domain.Article;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 엔티티 -> dto 변환
+ * - articleDtoPage : 목록 한 페이지(10건)
+ * - articleWithCommentsDto : 상세 (댓글 commentCount 개, data.sql 은 게시글당 2~3개, 300 은 인기글 가정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ArticleDtoMappingBenchmark {
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"3", "300"})
+    private int commentCount;
+
+    private List<Article> page;
+    private Article article;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        page = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            page.add(BenchmarkFixtures.article(id, 0, random));
+        }
+        article = BenchmarkFixtures.article(PAGE_SIZE + 1L, commentCount, random);
+    }
+
+    @Benchmark
+    public List<ArticleDto> articleDtoPage() {
+        return page.stream().map(ArticleDto::from).toList();
+    }
+
+    @Benchmark
+    public ArticleWithCommentsDto articleWithCommentsDto() {
+        return ArticleWithCommentsDto.from(article);
+    }
+}
@@ -0,0 +1,64 @@
+package com.springboot.board.dto.response;
+
+import com.springboot.board.BenchmarkFixtures;
+import com.springboot.board.dto.ArticleCommentDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * 댓글 트리 조립 : ArticleCommentTreeBuilder vs 기존 organizeChildComments (HashMap + 노드별 TreeSet)
+ * 입력은 Article.articleComments 와 같이 createdAt DESC 로 정렬된 LinkedHashSet, 약 30% 는 대댓글 (BenchmarkFixtures)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ArticleCommentTreeBenchmark {
+
+    @Param({"10000", "100000"})
+    private int commentCount;
+
+    private Set<ArticleCommentDto> comments;
+
+    @Setup
+    public void setUp() {
+        comments = BenchmarkFixtures.articleCommentDtos(commentCount, new Random(42));
+    }
+
+    @Benchmark
+    public List<ArticleCommentResponse> treeBuilder() {
+        return ArticleCommentTreeBuilder.build(comments);
+    }
+
+    @Benchmark
+    public Set<LegacyComment> legacyOrganizeChildComments() {
+        Map<Long, LegacyComment> map = comments.stream()
+                .map(LegacyComment::from)
+                .collect(Collectors.toMap(LegacyComment::id, Function.identity()));
+
+        map.values().stream().filter(comment -> comment.parentCommentId() != null)
+                .forEach(comment -> map.get(comment.parentCommentId()).childComments().add(comment));
+
+        return map.values().stream().filter(comment -> comment.parentCommentId() == null)
+                .collect(Collectors.toCollection(() -> new TreeSet<>(Comparator
+                        .comparing(LegacyComment::createdAt)
+                        .reversed()
+                        .thenComparingLong(LegacyComment::id))));
+    }
+
+    // 변경 전 ArticleCommentResponse : 생성할 때마다 comparator 와 TreeSet 을 만든다.
+    public record LegacyComment(Long id, String content, LocalDateTime createdAt, String email, String nickname,
+                                String userId, Long parentCommentId, Set<LegacyComment> childComments) {
+        static LegacyComment from(ArticleCommentDto dto) {
+            Comparator<LegacyComment> childCommentComparator = Comparator
+                    .comparing(LegacyComment::createdAt)
+                    .thenComparingLong(LegacyComment::id);
+            return new LegacyComment(dto.id(), dto.content(), dto.createdAt(), dto.userAccountDto().email(),
+                    dto.userAccountDto().nickname(), dto.userAccountDto().userId(), dto.parentCommentId(), new TreeSet<>(childCommentComparator));
+        }
+    }
+}
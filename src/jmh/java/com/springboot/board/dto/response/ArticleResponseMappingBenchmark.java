@@ -0,0 +1,57 @@
+package com.springboot.board.dto.response;
+
+import com.springboot.board.BenchmarkFixtures;
+import com.springboot.board.dto.ArticleDto;
+import com.springboot.board.dto.ArticleSummaryDto;
+import com.springboot.board.dto.ArticleWithCommentsDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/* dto -> 응답 변환 : 목록 한 페이지(10건)와 상세(댓글 commentCount 개) */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ArticleResponseMappingBenchmark {
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"3", "300"})
+    private int commentCount;
+
+    private List<ArticleDto> articleDtos;
+    private List<ArticleSummaryDto> articleSummaryDtos;
+    private ArticleWithCommentsDto articleWithCommentsDto;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        articleDtos = new ArrayList<>(PAGE_SIZE);
+        articleSummaryDtos = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            ArticleDto dto = ArticleDto.from(BenchmarkFixtures.article(id, 0, random));
+            articleDtos.add(dto);
+            articleSummaryDtos.add(ArticleSummaryDto.of(dto.id(), dto.title(), dto.userAccountDto().userId(),
+                    dto.userAccountDto().nickname(), dto.userAccountDto().email(),
+                    ArticleResponse.from(dto).hashtags(), dto.createdAt()));
+        }
+        articleWithCommentsDto = ArticleWithCommentsDto.from(BenchmarkFixtures.article(PAGE_SIZE + 1L, commentCount, random));
+    }
+
+    @Benchmark
+    public List<ArticleResponse> articleResponsePage() {
+        return articleDtos.stream().map(ArticleResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> articleSummaryResponsePage() {
+        return articleSummaryDtos.stream().map(ArticleResponse::from).toList();
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse articleWithCommentsResponse() {
+        return ArticleWithCommentsResponse.from(articleWithCommentsDto);
+    }
+}
@@ -0,0 +1,30 @@
+package com.springboot.board.dto.security;
+
+import com.springboot.board.BenchmarkFixtures;
+import com.springboot.board.dto.UserAccountDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/* 인증 요청마다 만들어지는 BoardPrincipal */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BoardPrincipalBenchmark {
+    private final UserAccountDto userAccountDto = BenchmarkFixtures.userAccountDto();
+
+    @Benchmark
+    public BoardPrincipal of() {
+        return BoardPrincipal.of("MJ", "{noop}m0501", "MJ@mail.com", "MJ", "I am MJ.");
+    }
+
+    @Benchmark
+    public BoardPrincipal fromUserAccountDto() {
+        return BoardPrincipal.from(userAccountDto);
+    }
+
+    @Benchmark
+    public UserAccountDto toDto() {
+        return BoardPrincipal.from(userAccountDto).toDto();
+    }
+}
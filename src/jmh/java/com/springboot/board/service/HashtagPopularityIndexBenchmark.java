@@ -0,0 +1,66 @@
+package com.springboot.board.service;
+
+import com.springboot.board.dto.HashtagCountDto;
+import com.springboot.board.repository.HashtagRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/* 해시태그 자동완성/인기 목록 : 해시태그 200,000 개, 접두어 길이별 */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class HashtagPopularityIndexBenchmark {
+    private static final int HASHTAG_COUNT = 200_000;
+    private static final int PREFIX_COUNT = 128;
+
+    @Param({"1", "2", "3"})
+    private int prefixLength;
+
+    private HashtagPopularityIndex index;
+    private String[] prefixes;
+    private int position;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<HashtagCountDto> hashtagCounts = new ArrayList<>(HASHTAG_COUNT);
+        for (int i = 0; i < HASHTAG_COUNT; i++) {
+            hashtagCounts.add(HashtagCountDto.of(randomName(random, 4 + random.nextInt(8)), 1 + random.nextInt(1_000)));
+        }
+        // findHashtagCounts 만 사용한다.
+        HashtagRepository hashtagRepository = (HashtagRepository) Proxy.newProxyInstance(
+                HashtagRepository.class.getClassLoader(), new Class<?>[]{HashtagRepository.class},
+                (proxy, method, args) -> method.getName().equals("findHashtagCounts") ? hashtagCounts : null);
+        index = new HashtagPopularityIndex(hashtagRepository);
+        index.load();
+
+        prefixes = new String[PREFIX_COUNT];
+        for (int i = 0; i < PREFIX_COUNT; i++) {
+            prefixes[i] = randomName(random, prefixLength);
+        }
+    }
+
+    @Benchmark
+    public List<HashtagCountDto> suggest() {
+        position = (position + 1) & (PREFIX_COUNT - 1);
+        return index.getHashtagsByPrefix(prefixes[position], 10);
+    }
+
+    @Benchmark
+    public List<HashtagCountDto> topHashtags() {
+        return index.getTopHashtags(HashtagPopularityIndex.MAX_TOP_SIZE);
+    }
+
+    private static String randomName(Random random, int length) {
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            name.append((char) ('a' + random.nextInt(26)));
+        }
+        return name.toString();
+    }
+}
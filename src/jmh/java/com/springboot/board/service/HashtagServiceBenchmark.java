@@ -0,0 +1,42 @@
+package com.springboot.board.service;
+
+import com.springboot.board.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/* 본문 해시태그 추출 : data.sql 크기의 본문(short)과 최대 길이(10,000자)에 가까운 본문(long) */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HashtagServiceBenchmark {
+    private static final int CONTENT_COUNT = 128;
+
+    @Param({"short", "long"})
+    private String contentLength;
+
+    private HashtagService hashtagService;
+    private String[] contents;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        // parseHashtagNames 는 repository 를 사용하지 않는다.
+        hashtagService = new HashtagService(null);
+        Random random = new Random(42);
+        contents = new String[CONTENT_COUNT];
+        for (int i = 0; i < CONTENT_COUNT; i++) {
+            contents[i] = contentLength.equals("short")
+                    ? BenchmarkFixtures.articleContent(random)
+                    : BenchmarkFixtures.articleContent(random, 60);
+        }
+    }
+
+    @Benchmark
+    public Set<String> parseHashtagNames() {
+        index = (index + 1) & (CONTENT_COUNT - 1);
+        return hashtagService.parseHashtagNames(contents[index]);
+    }
+}
@@ -0,0 +1,23 @@
+package com.springboot.board.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* 목록 페이지마다 호출되는 페이지 바 계산 (게시글 123건 / 10건씩 = 13 페이지 기준) */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PaginationServiceBenchmark {
+    private static final int TOTAL_PAGES = 13;
+
+    private final PaginationService paginationService = new PaginationService();
+    private int currentPageNumber;
+
+    @Benchmark
+    public List<Integer> getPagingBarNumbers() {
+        currentPageNumber = (currentPageNumber + 1) % TOTAL_PAGES;
+        return paginationService.getPagingBarNumbers(currentPageNumber, TOTAL_PAGES);
+    }
+}
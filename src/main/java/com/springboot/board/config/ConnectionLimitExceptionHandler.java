@@ -0,0 +1,34 @@
+package com.springboot.board.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.sql.SQLTransientConnectionException;
+
+/*
+ * 커넥션을 얻지 못해(ConnectionLimitingDataSource 한도 초과, Hikari 대기 시간 초과) 실패한 요청은 500 대신 503 + Retry-After 로 돌려보낸다.
+ * 그 밖의 DB 장애는 그대로 기본 오류 처리로 넘긴다.
+ */
+@Slf4j
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ControllerAdvice
+public class ConnectionLimitExceptionHandler {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public void connectionLimitExceeded(Exception e, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (!(NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLTransientConnectionException)) {throw e;}
+        log.warn("커넥션을 얻지 못해 거절합니다. uri: {}", request.getRequestURI());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,19 @@
+package com.springboot.board.config;
+
+import com.springboot.board.service.RenderedPageCache;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PageCacheConfig {
+    // 로그인 여부를 알아야 하므로 Spring Security 필터 뒤에 둔다.
+    @Bean
+    public FilterRegistrationBean<RenderedPageCacheFilter> renderedPageCacheFilter(RenderedPageCache renderedPageCache) {
+        FilterRegistrationBean<RenderedPageCacheFilter> registration = new FilterRegistrationBean<>(new RenderedPageCacheFilter(renderedPageCache));
+        registration.addUrlPatterns("/", "/articles", "/articles/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,78 @@
+package com.springboot.board.config;
+
+import com.springboot.board.service.RenderedPageCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/*
+ * 비로그인 GET 요청의 게시판 화면을 RenderedPageCache 에서 바로 내려준다. (Spring Security 필터 다음에 실행)
+ * 캐시에 없으면 평소처럼 렌더링한 결과를 저장하고, 어느 쪽이든 If-None-Match 가 ETag 와 같으면 304 로 응답한다.
+ * 로그인 사용자 화면은 헤더와 CSRF 토큰이 사용자마다 달라 캐시하지 않는다.
+ */
+@RequiredArgsConstructor
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final RenderedPageCache renderedPageCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || !isAnonymous();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RenderedPageCache.Key key = RenderedPageCache.Key.of(request.getRequestURI(), request.getParameterMap(), renderedPageCache.currentVersion());
+        RenderedPageCache.Page page = renderedPageCache.get(key);
+        if (page != null) {
+            writePage(request, response, page);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        if (responseWrapper.getStatus() != HttpServletResponse.SC_OK || !isHtml(responseWrapper.getContentType())) {
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+        page = renderedPageCache.put(key, responseWrapper.getContentType(), responseWrapper.getContentAsByteArray());
+        responseWrapper.resetBuffer();
+        writePage(request, responseWrapper, page);
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void writePage(HttpServletRequest request, HttpServletResponse response, RenderedPageCache.Page page) throws IOException {
+        // 비로그인 화면은 모두 같으므로 CDN 에도 저장하게 하되, 로그인 쿠키가 있는 요청과는 구분한다.
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePublic().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        if (new ServletWebRequest(request, response).checkNotModified(page.eTag())) {return;}
+        response.setContentType(page.contentType());
+        response.setContentLength(page.body().length);
+        response.getOutputStream().write(page.body());
+    }
+
+    private static boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || TRUST_RESOLVER.isAnonymous(authentication);
+    }
+
+    private static boolean isHtml(String contentType) {
+        return contentType != null && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+}
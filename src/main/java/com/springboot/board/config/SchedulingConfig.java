@@ -0,0 +1,12 @@
+package com.springboot.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Async 는 Spring Boot 의 applicationTaskExecutor 에서 실행된다. (virtual-threads 프로파일에서는 가상 스레드)
+@EnableAsync
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
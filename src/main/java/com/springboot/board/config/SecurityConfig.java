@@ -60,7 +60,7 @@ public class SecurityConfig {
 
     @Bean
     public UserDetailsService userDetailsService(UserAccountService userAccountService) {
-        return username -> userAccountService.searchUser(username).map(BoardPrincipal::from)
+        return username -> userAccountService.searchPrincipal(username)
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다. username: " + username));
     }
 
@@ -77,11 +77,11 @@ public class SecurityConfig {
             String registrationId = userRequest.getClientRegistration().getRegistrationId();
             String providerId = String.valueOf(kakaoResponse.id());
             String username = registrationId + "_" + providerId;
-            String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
 
-            return userAccountService.searchUser(username).map(BoardPrincipal::from)
-                    .orElseGet(() -> BoardPrincipal.from(
-                            userAccountService.saveUser(username, dummyPassword, kakaoResponse.email(), kakaoResponse.nickname(), null)));
+            // bcrypt 는 비싸므로 임의 비밀번호는 새로 가입시킬 때만 만든다.
+            return userAccountService.searchPrincipal(username)
+                    .orElseGet(() -> BoardPrincipal.from(userAccountService.saveUser(
+                            username, passwordEncoder.encode("{bcrypt}" + UUID.randomUUID()), kakaoResponse.email(), kakaoResponse.nickname(), null)));
         };
     }
 
@@ -0,0 +1,39 @@
+package com.springboot.board.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/*
+ * 가상 스레드 모드 (virtual-threads 프로파일, Java 21 이상에서만 활성화)
+ * Tomcat 요청, @Async, @Scheduled 가 가상 스레드에서 실행되어 요청 스레드 수 제한(기본 200)이 사라지므로,
+ * 커넥션 풀보다 훨씬 많은 요청이 한꺼번에 커넥션을 기다리지 않도록 커넥션 획득 자체를 풀 크기에 맞춰 제한한다.
+ * (요청 수가 아니라 커넥션을 제한하므로 DB 를 쓰지 않는 요청은 Tomcat 기본보다 더 많이 동시에 처리된다)
+ */
+@Slf4j
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Configuration
+public class VirtualThreadConfig {
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${board.virtual-threads.permits-per-connection:2}") int permitsPerConnection,
+            @Value("${board.virtual-threads.acquire-timeout:1s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {return bean;}
+                int poolSize = hikariDataSource.getMaximumPoolSize();
+                int permits = poolSize * permitsPerConnection;
+                log.info("가상 스레드 모드 : 커넥션을 쓰거나 기다리는 스레드 수를 {} 로 제한합니다. (커넥션 풀 {} x {})", permits, poolSize, permitsPerConnection);
+                return new ConnectionLimitingDataSource(hikariDataSource, permits, acquireTimeout);
+            }
+        };
+    }
+}
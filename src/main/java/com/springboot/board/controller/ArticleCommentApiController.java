@@ -0,0 +1,59 @@
+package com.springboot.board.controller;
+
+import com.springboot.board.dto.ArticleCommentDto;
+import com.springboot.board.dto.KeysetCursor;
+import com.springboot.board.dto.response.ArticleCommentResponse;
+import com.springboot.board.dto.response.ArticleCommentThreadResponse;
+import com.springboot.board.dto.response.CursorResponse;
+import com.springboot.board.service.ArticleCommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.bind.annotation.*;
+
+/* 게시글 상세의 댓글을 나눠서 불러오는 API (/api/articleComments 는 Spring Data REST 가 사용) */
+@RequiredArgsConstructor
+@RequestMapping("/api/comments")
+@RestController
+public class ArticleCommentApiController {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ArticleCommentService articleCommentService;
+
+    @GetMapping
+    public CursorResponse<ArticleCommentThreadResponse> commentThreads(
+            @RequestParam Long articleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int childSize) {
+        Slice<ArticleCommentThreadResponse> threads = articleCommentService
+                .searchArticleCommentThreads(articleId, KeysetCursor.decode(cursor), pageSize(size), pageSize(childSize))
+                .map(ArticleCommentThreadResponse::from);
+
+        String nextCursor = null;
+        if (threads.hasNext()) {
+            ArticleCommentResponse last = threads.getContent().get(threads.getNumberOfElements() - 1).comment();
+            nextCursor = KeysetCursor.of(last.createdAt(), last.id()).encode();
+        }
+        return CursorResponse.of(threads.getContent(), nextCursor);
+    }
+
+    @GetMapping("/{commentId}/replies")
+    public CursorResponse<ArticleCommentResponse> childComments(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Slice<ArticleCommentDto> childComments = articleCommentService.searchChildComments(commentId, KeysetCursor.decode(cursor), pageSize(size));
+
+        String nextCursor = null;
+        if (childComments.hasNext()) {
+            ArticleCommentDto last = childComments.getContent().get(childComments.getNumberOfElements() - 1);
+            nextCursor = KeysetCursor.of(last.createdAt(), last.id()).encode();
+        }
+        return CursorResponse.of(childComments.getContent().stream().map(ArticleCommentResponse::from).toList(), nextCursor);
+    }
+
+    // 대댓글 미리보기도 최소 1건 : 0 건이면 다음 대댓글 cursor 를 만들 기준이 없다.
+    private int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+}
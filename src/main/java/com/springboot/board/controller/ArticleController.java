@@ -2,22 +2,34 @@ package com.springboot.board.controller;
 
 import com.springboot.board.domain.constant.FormStatus;
 import com.springboot.board.domain.constant.SearchType;
+import com.springboot.board.dto.ArticleVersionDto;
+import com.springboot.board.dto.KeysetCursor;
 import com.springboot.board.dto.request.ArticleRequest;
 import com.springboot.board.dto.response.ArticleResponse;
 import com.springboot.board.dto.response.ArticleWithCommentsResponse;
 import com.springboot.board.dto.security.BoardPrincipal;
 import com.springboot.board.service.ArticleService;
 import com.springboot.board.service.PaginationService;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
@@ -43,8 +55,12 @@ public class ArticleController {
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map){
+        if (cursor != null) {
+            return articlesByCursor(searchType, searchValue, cursor, pageable.getPageSize(), map);
+        }
         Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPagingBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
@@ -55,16 +71,56 @@ public class ArticleController {
         return "articles/index";
     }
 
+    // cursor 파라미터가 있으면 keyset 페이지네이션 (빈 값 = 첫 페이지)
+    private String articlesByCursor(SearchType searchType, String searchValue, String cursor, int size, ModelMap map) {
+        Slice<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, KeysetCursor.decode(cursor), size).map(ArticleResponse::from);
+        String nextCursor = null;
+        if (articles.hasNext()) {
+            ArticleResponse last = articles.getContent().get(articles.getNumberOfElements() - 1);
+            nextCursor = KeysetCursor.of(last.createdAt(), last.id()).encode();
+        }
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("cursorMode", true);
+        map.addAttribute("nextCursor", nextCursor);
+        map.addAttribute("searchTypes", SearchType.values());
+        map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
+        return "articles/index";
+    }
+
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map) {
+    public String article(@PathVariable Long articleId, ServletWebRequest webRequest, ModelMap map) {
+        // 댓글 트리를 읽기 전에 버전만 조회해 변경이 없으면 304 로 끝낸다. (게시글이 없으면 아래에서 예외 처리)
+        long totalCount = articleService.getArticleCount();
+        Optional<ArticleVersionDto> version = articleService.getArticleVersion(articleId);
+        if (version.isPresent() && isNotModified(webRequest, version.get(), totalCount)) {return null;}
+
         ArticleWithCommentsResponse articleWithComments = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
         map.addAttribute("article", articleWithComments);
         map.addAttribute("articleComments", articleWithComments.articleCommentResponse());
-        map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("totalCount", totalCount);
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
         return "articles/detail";
     }
 
+    /*
+     * 화면에는 로그인 사용자 정보와 세션의 CSRF 토큰이 들어가므로 ETag 에 사용자와 세션도 섞는다. (같은 브라우저에서 다시 로그인하면 새로 받음)
+     * 댓글 삭제는 마지막 댓글 수정일을 바꾸지 않을 수 있어 댓글 수도 포함한다. Last-Modified 는 If-None-Match 가 없을 때만 쓰인다.
+     * 로그인 사용자 화면은 브라우저에만(private), 비로그인 화면은 CDN 에도(public) 저장하되 매번 재검증(no-cache)하게 한다.
+     */
+    private boolean isNotModified(ServletWebRequest webRequest, ArticleVersionDto version, long totalCount) {
+        String user = webRequest.getRemoteUser();
+        HttpSession session = webRequest.getRequest().getSession(false);
+        String source = version.articleId() + ":" + version.lastModifiedAt() + ":" + version.commentCount() + ":" + totalCount
+                + ":" + user + ":" + (session == null ? null : session.getId());
+        String eTag = "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + '"';
+        long lastModified = version.lastModifiedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        CacheControl cacheControl = user == null ? CacheControl.noCache().cachePublic() : CacheControl.noCache().cachePrivate();
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        return webRequest.checkNotModified(eTag, lastModified);
+    }
+
     // Update Article
     @GetMapping("/{articleId}/form")
     public String updateArticleForm(@PathVariable Long articleId, ModelMap map){
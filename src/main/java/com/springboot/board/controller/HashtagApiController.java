@@ -0,0 +1,28 @@
+package com.springboot.board.controller;
+
+import com.springboot.board.dto.response.HashtagCountResponse;
+import com.springboot.board.service.HashtagPopularityIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/* 해시태그 자동완성 API : in-memory 색인만 사용하므로 트랜잭션/DB 를 거치지 않는다. */
+@RequiredArgsConstructor
+@RequestMapping("/api/hashtags")
+@RestController
+public class HashtagApiController {
+    private final HashtagPopularityIndex hashtagPopularityIndex;
+
+    @GetMapping("/suggest")
+    public List<HashtagCountResponse> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+        return hashtagPopularityIndex.getHashtagsByPrefix(prefix, Math.min(Math.max(size, 1), HashtagPopularityIndex.MAX_SUGGESTION_SIZE)).stream()
+                .map(HashtagCountResponse::from)
+                .toList();
+    }
+}
@@ -2,6 +2,8 @@ package com.springboot.board.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Objects;
@@ -17,8 +19,11 @@ import java.util.Set;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Article extends AuditingFields{
+    // IDENTITY 는 insert 마다 즉시 실행해야 해서 JDBC batch 가 꺼진다. id 를 batch 크기(100)만큼 미리 받아 insert 를 모아 보낸다. (시작값은 data.sql)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_id")
+    @TableGenerator(name = "article_id", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "article", allocationSize = 100)
     private Long id;
 
     @Setter
@@ -40,6 +45,7 @@ public class Article extends AuditingFields{
             joinColumns = @JoinColumn(name = "articleId"),
             inverseJoinColumns = @JoinColumn(name = "hashtagId")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "articleHashtags")
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     private Set<Hashtag> hashtags = new LinkedHashSet<>();
 
@@ -66,6 +72,10 @@ public class Article extends AuditingFields{
         this.getHashtags().addAll(hashtags);
     }
 
+    public void removeHashtags(Collection<Hashtag> hashtags) {
+        this.getHashtags().removeAll(hashtags);
+    }
+
     public void clearHashtags() {
         this.getHashtags().clear();
     }
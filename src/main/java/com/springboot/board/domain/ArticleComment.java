@@ -13,13 +13,18 @@ import java.util.Set;
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy"),
+        @Index(columnList = "article_id, parentCommentId, createdAt"),
+        @Index(columnList = "article_id, modifiedAt"),
 })
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ArticleComment extends AuditingFields{
 
+    // Article 과 같이 100개 단위 id 할당 (id_sequence 테이블)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_comment_id")
+    @TableGenerator(name = "article_comment_id", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "article_comment", allocationSize = 100)
     private Long id;
 
     @Setter
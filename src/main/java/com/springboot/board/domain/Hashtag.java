@@ -2,6 +2,8 @@ package com.springboot.board.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -13,6 +15,7 @@ import java.util.Set;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "hashtag")
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Hashtag extends AuditingFields {
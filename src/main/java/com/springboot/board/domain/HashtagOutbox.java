@@ -0,0 +1,91 @@
+package com.springboot.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * 게시글 해시태그 정리 작업 (transactional outbox) : 게시글 저장/수정/삭제와 같은 트랜잭션에서 쌓고, 커밋 후 HashtagOutboxWorker 가 처리한다.
+ * 작업 내용은 "이 게시글의 해시태그를 현재 본문에 맞춘다" 뿐이라 몇 번을 다시 처리해도 결과가 같다.
+ * 삭제된 게시글은 연결(article_hashtag)이 이미 지워졌으므로 고아 후보 해시태그 id 를 함께 남긴다.
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "nextAttemptAt")
+})
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HashtagOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long articleId;
+
+    // 새로 만드는 해시태그의 작성자
+    @Column(nullable = false, length = 100)
+    private String userId;
+
+    // 쉼표로 구분한 해시태그 id
+    @Column(length = 10000)
+    private String orphanCandidateIds;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private HashtagOutbox(Long articleId, String userId, Collection<Long> orphanCandidateIds, LocalDateTime nextAttemptAt) {
+        this.articleId = articleId;
+        this.userId = userId;
+        this.orphanCandidateIds = orphanCandidateIds.isEmpty() ? null
+                : orphanCandidateIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        this.nextAttemptAt = nextAttemptAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static HashtagOutbox of(Long articleId, String userId, Collection<Long> orphanCandidateIds, LocalDateTime nextAttemptAt) {
+        return new HashtagOutbox(articleId, userId, orphanCandidateIds, nextAttemptAt);
+    }
+
+    public Set<Long> getOrphanCandidateIdSet() {
+        if (orphanCandidateIds == null) {return Set.of();}
+        return Arrays.stream(orphanCandidateIds.split(",")).map(Long::valueOf).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public void failed(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HashtagOutbox that)) return false;
+        return this.getId() != null && this.getId().equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getId());
+    }
+}
@@ -0,0 +1,56 @@
+package com.springboot.board.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 일괄 가져오기 재시작 지점 : 파일별로 커밋까지 끝난 행 수. 같은 트랜잭션에서 함께 갱신된다.
+@Getter
+@ToString
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImportCheckpoint {
+    @Id
+    @Column(length = 500)
+    private String source;
+
+    @Column(nullable = false)
+    private long position;
+
+    @Column(nullable = false)
+    private LocalDateTime modifiedAt;
+
+    private ImportCheckpoint(String source, long position) {
+        this.source = source;
+        this.position = position;
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    public static ImportCheckpoint of(String source, long position) {
+        return new ImportCheckpoint(source, position);
+    }
+
+    public void moveTo(long position) {
+        this.position = position;
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImportCheckpoint that)) return false;
+        return this.getSource() != null && this.getSource().equals(that.getSource());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getSource());
+    }
+}
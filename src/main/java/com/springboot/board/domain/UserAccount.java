@@ -2,6 +2,8 @@ package com.springboot.board.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Objects;
 
@@ -12,6 +14,7 @@ import java.util.Objects;
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "userAccount")
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserAccount extends AuditingFields{
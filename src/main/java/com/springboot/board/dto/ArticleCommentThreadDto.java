@@ -0,0 +1,12 @@
+package com.springboot.board.dto;
+
+import java.util.List;
+
+/* 댓글 스레드 : 최상위 댓글 + 앞에서부터 일부 대댓글, 나머지는 "대댓글 더 보기"로 이어서 조회 */
+public record ArticleCommentThreadDto(
+        ArticleCommentDto comment, List<ArticleCommentDto> childComments, boolean hasMoreChildComments
+) {
+    public static ArticleCommentThreadDto of(ArticleCommentDto comment, List<ArticleCommentDto> childComments, boolean hasMoreChildComments) {
+        return new ArticleCommentThreadDto(comment, childComments, hasMoreChildComments);
+    }
+}
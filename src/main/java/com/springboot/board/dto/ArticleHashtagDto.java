@@ -0,0 +1,7 @@
+package com.springboot.board.dto;
+
+public record ArticleHashtagDto(Long articleId, Long hashtagId, String hashtagName) {
+    public static ArticleHashtagDto of(Long articleId, Long hashtagId, String hashtagName) {
+        return new ArticleHashtagDto(articleId, hashtagId, hashtagName);
+    }
+}
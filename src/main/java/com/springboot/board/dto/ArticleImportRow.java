@@ -0,0 +1,25 @@
+package com.springboot.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * 일괄 가져오기 파일의 한 행 (게시글 1건)
+ * - JSON lines : 한 줄에 {"userId", "title", "content", "createdAt", "comments": [{"userId", "content", "createdAt"}]}
+ * - CSV : 헤더 userId,title,content,createdAt (댓글 없음)
+ */
+public record ArticleImportRow(String userId, String title, String content, LocalDateTime createdAt, List<Comment> comments) {
+    public static ArticleImportRow of(String userId, String title, String content, LocalDateTime createdAt, List<Comment> comments) {
+        return new ArticleImportRow(userId, title, content, createdAt, comments);
+    }
+
+    public List<Comment> comments() {
+        return comments == null ? List.of() : comments;
+    }
+
+    public record Comment(String userId, String content, LocalDateTime createdAt) {
+        public static Comment of(String userId, String content, LocalDateTime createdAt) {
+            return new Comment(userId, content, createdAt);
+        }
+    }
+}
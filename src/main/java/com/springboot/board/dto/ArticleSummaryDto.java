@@ -0,0 +1,14 @@
+package com.springboot.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/* 게시글 목록용 projection : 본문(content) 없이 목록에 표시하는 컬럼만 담는다. */
+public record ArticleSummaryDto(
+        Long id, String title, String userId, String nickname, String email,
+        Set<String> hashtagNames, LocalDateTime createdAt
+) {
+    public static ArticleSummaryDto of(Long id, String title, String userId, String nickname, String email, Set<String> hashtagNames, LocalDateTime createdAt) {
+        return new ArticleSummaryDto(id, title, userId, nickname, email, hashtagNames, createdAt);
+    }
+}
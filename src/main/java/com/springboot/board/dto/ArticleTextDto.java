@@ -0,0 +1,7 @@
+package com.springboot.board.dto;
+
+public record ArticleTextDto(Long id, String title, String content) {
+    public static ArticleTextDto of(Long id, String title, String content) {
+        return new ArticleTextDto(id, title, content);
+    }
+}
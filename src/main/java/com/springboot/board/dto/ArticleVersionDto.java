@@ -0,0 +1,15 @@
+package com.springboot.board.dto;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 화면의 신선도 판단용 : 게시글 수정일 + 댓글 수 + 마지막 댓글 수정일
+public record ArticleVersionDto(Long articleId, LocalDateTime articleModifiedAt, long commentCount, LocalDateTime lastCommentModifiedAt) {
+    public static ArticleVersionDto of(Long articleId, LocalDateTime articleModifiedAt, long commentCount, LocalDateTime lastCommentModifiedAt) {
+        return new ArticleVersionDto(articleId, articleModifiedAt, commentCount, lastCommentModifiedAt);
+    }
+
+    public LocalDateTime lastModifiedAt() {
+        if (lastCommentModifiedAt == null || lastCommentModifiedAt.isBefore(articleModifiedAt)) {return articleModifiedAt;}
+        return lastCommentModifiedAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.springboot.board.dto;
+
+public record HashtagCountDto(String hashtagName, long articleCount) {
+    public static HashtagCountDto of(String hashtagName, long articleCount) {
+        return new HashtagCountDto(hashtagName, articleCount);
+    }
+}
@@ -0,0 +1,60 @@
+package com.springboot.board.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+ * 해시태그 검색어 : 공백으로 구분, 앞의 # 은 무시
+ * - "+java" : 반드시 포함 (AND)
+ * - "-java" : 포함하지 않음 (NOT)
+ * - "java"  : 하나 이상 포함 (OR)
+ * 예) "+spring java kotlin -legacy" = spring 을 포함하고, java 나 kotlin 중 하나를 포함하고, legacy 는 포함하지 않는 게시글
+ */
+public record HashtagQuery(Set<String> allOf, Set<String> anyOf, Set<String> noneOf) {
+
+    public static HashtagQuery of(Set<String> allOf, Set<String> anyOf, Set<String> noneOf) {
+        return new HashtagQuery(Set.copyOf(allOf), Set.copyOf(anyOf), Set.copyOf(noneOf));
+    }
+
+    public static HashtagQuery parse(String keyword) {
+        Set<String> allOf = new LinkedHashSet<>();
+        Set<String> anyOf = new LinkedHashSet<>();
+        Set<String> noneOf = new LinkedHashSet<>();
+        if (keyword != null) {
+            for (String token : keyword.trim().split("\\s+")) {
+                if (token.isEmpty()) {continue;}
+                Set<String> target = switch (token.charAt(0)) {
+                    case '+' -> allOf;
+                    case '-' -> noneOf;
+                    default -> anyOf;
+                };
+                String hashtagName = normalize(target == anyOf ? token : token.substring(1));
+                if (!hashtagName.isEmpty()) {target.add(hashtagName);}
+            }
+        }
+        return new HashtagQuery(Collections.unmodifiableSet(allOf), Collections.unmodifiableSet(anyOf), Collections.unmodifiableSet(noneOf));
+    }
+
+    public boolean isEmpty() {
+        return allOf.isEmpty() && anyOf.isEmpty() && noneOf.isEmpty();
+    }
+
+    // 포함 조건 없이 제외 조건만 있는 검색어 : 전체 게시글에서 빼야 하므로 색인 대신 DB 로 처리
+    public boolean hasOnlyExclusions() {
+        return allOf.isEmpty() && anyOf.isEmpty() && !noneOf.isEmpty();
+    }
+
+    // 해시태그 하나만 찾는 검색어면 그 이름
+    public Optional<String> singleHashtagName() {
+        if (allOf.size() + anyOf.size() != 1 || !noneOf.isEmpty()) {return Optional.empty();}
+        return Optional.of(allOf.isEmpty() ? anyOf.iterator().next() : allOf.iterator().next());
+    }
+
+    private static String normalize(String token) {
+        String hashtagName = token.startsWith("#") ? token.substring(1) : token;
+        return hashtagName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,35 @@
+package com.springboot.board.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/* keyset(seek) 페이지네이션 커서 : (createdAt, id) 를 불투명한 문자열로 인코딩 */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+    private static final String DELIMITER = "|";
+
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    // 빈 커서는 첫 페이지, 해석할 수 없는 커서도 첫 페이지로 취급
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {return null;}
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {return null;}
+            return KeysetCursor.of(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.valueOf(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,20 +2,17 @@ package com.springboot.board.dto.response;
 
 import com.springboot.board.dto.ArticleCommentDto;
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.ArrayList;
+import java.util.List;
 
 public record ArticleCommentResponse(
         Long id, String content, LocalDateTime createdAt, String email, String nickname,
-        String userId, Long parentCommentId, Set<ArticleCommentResponse> childComments
+        String userId, Long parentCommentId, List<ArticleCommentResponse> childComments
         ) {
 
     public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId) {
-        Comparator<ArticleCommentResponse> childCommentComparator = Comparator
-                .comparing(ArticleCommentResponse::createdAt)
-                .thenComparingLong(ArticleCommentResponse::id);
-        return new ArticleCommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, new TreeSet<>(childCommentComparator));
+        // 대댓글 정렬은 ArticleCommentTreeBuilder 가 작성순으로 채워 넣는다.
+        return new ArticleCommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, new ArrayList<>());
     }
 
     public static ArticleCommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId) {
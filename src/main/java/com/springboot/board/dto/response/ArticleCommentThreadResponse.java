@@ -0,0 +1,26 @@
+package com.springboot.board.dto.response;
+
+import com.springboot.board.dto.ArticleCommentDto;
+import com.springboot.board.dto.ArticleCommentThreadDto;
+import com.springboot.board.dto.KeysetCursor;
+
+import java.util.List;
+
+public record ArticleCommentThreadResponse(
+        ArticleCommentResponse comment, List<ArticleCommentResponse> childComments, String nextChildCursor
+) {
+    public static ArticleCommentThreadResponse of(ArticleCommentResponse comment, List<ArticleCommentResponse> childComments, String nextChildCursor) {
+        return new ArticleCommentThreadResponse(comment, childComments, nextChildCursor);
+    }
+
+    // nextChildCursor : /api/comments/{commentId}/replies?cursor= 로 나머지 대댓글을 이어서 조회
+    public static ArticleCommentThreadResponse from(ArticleCommentThreadDto dto) {
+        String nextChildCursor = null;
+        if (dto.hasMoreChildComments()) {
+            ArticleCommentDto last = dto.childComments().get(dto.childComments().size() - 1);
+            nextChildCursor = KeysetCursor.of(last.createdAt(), last.id()).encode();
+        }
+        return new ArticleCommentThreadResponse(ArticleCommentResponse.from(dto.comment()),
+                dto.childComments().stream().map(ArticleCommentResponse::from).toList(), nextChildCursor);
+    }
+}
@@ -0,0 +1,83 @@
+package com.springboot.board.dto.response;
+
+import com.springboot.board.dto.ArticleCommentDto;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+ * 댓글 목록 -> 댓글 트리 변환.
+ * - 입력을 (createdAt ASC, id ASC) 배열로 맞춘다. DB 에서 정렬되어 온 경우(오름차순/내림차순) 정렬 없이 O(n)
+ * - 오름차순으로 순회하며 부모의 childComments 에 붙이므로 모든 깊이에서 대댓글은 작성순으로 쌓인다.
+ * - 부모가 없는(삭제된) 대댓글은 최상위 댓글로 취급한다.
+ * - 최상위 댓글은 createdAt DESC, 같은 시각이면 id ASC
+ */
+public final class ArticleCommentTreeBuilder {
+    private static final Comparator<ArticleCommentDto> CREATED_AT_ASC = Comparator
+            .comparing(ArticleCommentDto::createdAt)
+            .thenComparing(ArticleCommentDto::id);
+
+    private ArticleCommentTreeBuilder() {}
+
+    public static List<ArticleCommentResponse> build(Collection<ArticleCommentDto> dtos) {
+        int size = dtos.size();
+        if (size == 0) {return new ArrayList<>();}
+        ArticleCommentDto[] sorted = toAscendingArray(dtos);
+
+        ArticleCommentResponse[] responses = new ArticleCommentResponse[size];
+        Map<Long, ArticleCommentResponse> responsesById = new HashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            responses[i] = ArticleCommentResponse.from(sorted[i]);
+            responsesById.put(responses[i].id(), responses[i]);
+        }
+
+        // 부모보다 먼저 작성된 대댓글이 있을 수 있으므로 전체를 만든 뒤 연결
+        List<ArticleCommentResponse> roots = new ArrayList<>();
+        for (ArticleCommentResponse response : responses) {
+            ArticleCommentResponse parent = response.hasParentComment() ? responsesById.get(response.parentCommentId()) : null;
+            if (parent == null) {
+                roots.add(response);
+            } else {
+                parent.childComments().add(response);
+            }
+        }
+
+        Collections.reverse(roots);
+        reverseEqualCreatedAtRuns(roots);
+        return roots;
+    }
+
+    private static ArticleCommentDto[] toAscendingArray(Collection<ArticleCommentDto> dtos) {
+        ArticleCommentDto[] array = dtos.toArray(new ArticleCommentDto[0]);
+        if (isSorted(array, CREATED_AT_ASC)) {return array;}
+        if (isSorted(array, CREATED_AT_ASC.reversed())) {
+            for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+                ArticleCommentDto tmp = array[i];
+                array[i] = array[j];
+                array[j] = tmp;
+            }
+            return array;
+        }
+        Arrays.sort(array, CREATED_AT_ASC);
+        return array;
+    }
+
+    private static boolean isSorted(ArticleCommentDto[] array, Comparator<ArticleCommentDto> comparator) {
+        for (int i = 1; i < array.length; i++) {
+            if (comparator.compare(array[i - 1], array[i]) > 0) {return false;}
+        }
+        return true;
+    }
+
+    // 뒤집힌 (createdAt DESC, id DESC) 에서 같은 시각의 구간만 다시 뒤집어 id ASC 로 만든다.
+    private static void reverseEqualCreatedAtRuns(List<ArticleCommentResponse> roots) {
+        int start = 0;
+        while (start < roots.size()) {
+            LocalDateTime createdAt = roots.get(start).createdAt();
+            int end = start + 1;
+            while (end < roots.size() && roots.get(end).createdAt().equals(createdAt)) {end++;}
+            if (end - start > 1) {Collections.reverse(roots.subList(start, end));}
+            start = end;
+        }
+    }
+}
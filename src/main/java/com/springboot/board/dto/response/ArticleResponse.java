@@ -1,6 +1,7 @@
 package com.springboot.board.dto.response;
 
 import com.springboot.board.dto.ArticleDto;
+import com.springboot.board.dto.ArticleSummaryDto;
 import com.springboot.board.dto.HashtagDto;
 
 import java.time.LocalDateTime;
@@ -23,4 +24,13 @@ public record ArticleResponse(
         return new ArticleResponse(dto.id(),dto.userAccountDto().email(), nickname, dto.title(), dto.content(),
                 dto.hashtagDtos().stream().map(HashtagDto::hashtagName).collect(Collectors.toUnmodifiableSet()), dto.createdAt());
     }
+
+    // 목록용 : content 는 조회하지 않으므로 null
+    public static ArticleResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if(nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+        return new ArticleResponse(dto.id(), dto.email(), nickname, dto.title(), null, dto.hashtagNames(), dto.createdAt());
+    }
 }
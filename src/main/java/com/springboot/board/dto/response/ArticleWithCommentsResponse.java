@@ -4,16 +4,16 @@ import com.springboot.board.dto.ArticleWithCommentsDto;
 import com.springboot.board.dto.HashtagDto;
 
 import java.time.LocalDateTime;
-import java.util.*;
-import java.util.function.Function;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public record ArticleWithCommentsResponse(
         Long id, String email, String nickname, String userId,
         String title, String content,  Set<String> hashtags, LocalDateTime createdAt,
-        Set<ArticleCommentResponse> articleCommentResponse
+        List<ArticleCommentResponse> articleCommentResponse
 ) {
-    public static ArticleWithCommentsResponse of(Long id, String email, String nickname, String userId, String title, String content,  Set<String> hashtags, LocalDateTime createdAt, Set<ArticleCommentResponse> articleCommentResponse) {
+    public static ArticleWithCommentsResponse of(Long id, String email, String nickname, String userId, String title, String content,  Set<String> hashtags, LocalDateTime createdAt, List<ArticleCommentResponse> articleCommentResponse) {
         return new ArticleWithCommentsResponse(id, email, nickname, userId, title, content, hashtags, createdAt, articleCommentResponse);
     }
 
@@ -25,23 +25,6 @@ public record ArticleWithCommentsResponse(
         return new ArticleWithCommentsResponse(
                 dto.id(),dto.userAccountDto().email(), nickname, dto.userAccountDto().userId(),
                 dto.title(), dto.content(), dto.hashtagDtos().stream().map(HashtagDto::hashtagName).collect(Collectors.toUnmodifiableSet()), dto.createdAt(),
-                organizeChildComments(dto.articleCommentDtos()));
-    }
-
-    private static Set<ArticleCommentResponse> organizeChildComments(Set<ArticleCommentDto> dtos) {
-        Map<Long, ArticleCommentResponse> map = dtos.stream()
-                .map(ArticleCommentResponse::from)
-                .collect(Collectors.toMap(ArticleCommentResponse::id, Function.identity()));
-
-        map.values().stream().filter(ArticleCommentResponse::hasParentComment)
-                .forEach(comment -> {
-                    ArticleCommentResponse parentComment = map.get(comment.parentCommentId());
-                    parentComment.childComments().add(comment);});
-
-        return map.values().stream().filter(comment -> !comment.hasParentComment())
-                .collect(Collectors.toCollection(() -> new TreeSet<>(Comparator
-                        .comparing(ArticleCommentResponse::createdAt)
-                        .reversed()
-                        .thenComparingLong(ArticleCommentResponse::id))));
+                ArticleCommentTreeBuilder.build(dto.articleCommentDtos()));
     }
 }
@@ -0,0 +1,10 @@
+package com.springboot.board.dto.response;
+
+import java.util.List;
+
+/* keyset 페이지네이션 응답 : nextCursor 가 null 이면 마지막 페이지 */
+public record CursorResponse<T>(List<T> content, String nextCursor) {
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorResponse<>(content, nextCursor);
+    }
+}
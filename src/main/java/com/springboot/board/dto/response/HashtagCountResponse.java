@@ -0,0 +1,13 @@
+package com.springboot.board.dto.response;
+
+import com.springboot.board.dto.HashtagCountDto;
+
+public record HashtagCountResponse(String hashtagName, long articleCount) {
+    public static HashtagCountResponse of(String hashtagName, long articleCount) {
+        return new HashtagCountResponse(hashtagName, articleCount);
+    }
+
+    public static HashtagCountResponse from(HashtagCountDto dto) {
+        return new HashtagCountResponse(dto.hashtagName(), dto.articleCount());
+    }
+}
@@ -1,17 +1,25 @@
 package com.springboot.board.repository;
 import com.springboot.board.domain.Article;
 import com.springboot.board.domain.QArticle;
+import com.springboot.board.dto.ArticleTextDto;
 import com.springboot.board.repository.querydsl.ArticleRepositoryCustom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 
+import java.util.List;
+import java.util.Optional;
+
 @RepositoryRestResource
 public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleRepositoryCustom,
         QuerydslPredicateExecutor<Article>, QuerydslBinderCustomizer<QArticle> {
@@ -20,6 +28,16 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Article
     Page<Article> findByContentContaining(String content, Pageable pageable);
     Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
+    long countByHashtags_HashtagName(String hashtagName);
+
+    // 검색 색인 적재용 : 엔티티 대신 id/제목/본문만 조회
+    List<ArticleTextDto> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
+
+    // 해시태그 outbox 처리 : 같은 게시글의 작업끼리 직렬화하도록 게시글 행을 잠근다.
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Article a where a.id = :id")
+    Optional<Article> findForUpdateById(Long id);
 
     void deleteByIdAndUserAccount_UserId(Long articleId, String userid);
 
@@ -0,0 +1,22 @@
+package com.springboot.board.repository;
+
+import com.springboot.board.domain.HashtagOutbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface HashtagOutboxRepository extends JpaRepository<HashtagOutbox, Long> {
+    // 같은 작업을 커밋 직후 처리와 재시도가 동시에 잡아도 한쪽만 처리하도록 행을 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from HashtagOutbox o where o.id = :id")
+    Optional<HashtagOutbox> findForUpdateById(Long id);
+
+    @Query("select o.id from HashtagOutbox o where o.nextAttemptAt <= :now order by o.id")
+    List<Long> findIdsToRetry(LocalDateTime now, Pageable pageable);
+}
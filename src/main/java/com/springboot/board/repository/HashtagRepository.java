@@ -2,14 +2,32 @@ package com.springboot.board.repository;
 
 import com.springboot.board.domain.Hashtag;
 import com.springboot.board.repository.querydsl.HashtagRepositoryCustom;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 public interface HashtagRepository extends JpaRepository<Hashtag, Long>, HashtagRepositoryCustom, QuerydslPredicateExecutor<Hashtag> {
     Optional<Hashtag> findByHashtagName(String hashtagName);
+    // 글쓰기 때마다 호출되므로 쿼리 캐시 사용 (hashtag 테이블이 바뀌면 Hibernate 가 무효화)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
+
+    // 주어진 id 중 게시글이 하나도 없는(article_hashtag 행이 없는) 해시태그만 한 번에 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Hashtag h where h.id in :hashtagIds and h.articles is empty")
+    int deleteByIdInAndArticlesIsEmpty(@Param("hashtagIds") Collection<Long> hashtagIds);
+
+    @Query("select h.id from Hashtag h where h.articles is empty order by h.id")
+    List<Long> findIdsWithoutArticles(Pageable pageable);
 }
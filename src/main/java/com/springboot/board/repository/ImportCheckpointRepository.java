@@ -0,0 +1,7 @@
+package com.springboot.board.repository;
+
+import com.springboot.board.domain.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
@@ -0,0 +1,14 @@
+package com.springboot.board.repository.querydsl;
+
+import com.springboot.board.domain.ArticleComment;
+import com.springboot.board.dto.KeysetCursor;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArticleCommentRepositoryCustom {
+    Slice<ArticleComment> findRootComments(Long articleId, KeysetCursor cursor, int size);
+    List<ArticleComment> findChildComments(Long articleId, Collection<Long> parentCommentIds, int sizePerParent);
+    Slice<ArticleComment> findChildComments(Long parentCommentId, KeysetCursor cursor, int size);
+}
@@ -0,0 +1,93 @@
+package com.springboot.board.repository.querydsl;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.springboot.board.domain.ArticleComment;
+import com.springboot.board.domain.QArticleComment;
+import com.springboot.board.dto.KeysetCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.Collection;
+import java.util.List;
+
+/* 댓글 스레드 페이지네이션 : (article_id, parentCommentId, createdAt) 인덱스를 타도록 조건과 정렬을 구성 */
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    // 최상위 댓글 : 최신순(createdAt DESC, id DESC), size + 1 건으로 다음 페이지 존재 여부 판단
+    @Override
+    public Slice<ArticleComment> findRootComments(Long articleId, KeysetCursor cursor, int size) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+        BooleanExpression cursorCondition = cursor == null ? null
+                : articleComment.createdAt.lt(cursor.createdAt())
+                    .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.lt(cursor.id())));
+
+        List<ArticleComment> comments = from(articleComment)
+                .join(articleComment.userAccount).fetchJoin()
+                .where(articleComment.article.id.eq(articleId), articleComment.parentCommentId.isNull(), cursorCondition)
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.desc())
+                .limit(size + 1L)
+                .fetch();
+        return toSlice(comments, size, Sort.Direction.DESC);
+    }
+
+    /*
+     * 부모 댓글별로 앞에서부터 최대 sizePerParent 건의 대댓글을 한 번에 조회한다.
+     * row_number() 로 부모별 순번을 매겨 (article_id, parentCommentId, createdAt) 인덱스 순서대로 한 번 훑고 id 만 고른 뒤,
+     * 고른 id 로 작성자와 함께 다시 조회한다. (대댓글이 많아도 부모당 비용이 대댓글 수에 비례)
+     */
+    @Override
+    public List<ArticleComment> findChildComments(Long articleId, Collection<Long> parentCommentIds, int sizePerParent) {
+        if (parentCommentIds.isEmpty()) {return List.of();}
+        @SuppressWarnings("unchecked")
+        List<Number> childCommentIds = getEntityManager().createNativeQuery("""
+                        select id from (
+                            select c.id, row_number() over (partition by c.parent_comment_id order by c.created_at, c.id) as rn
+                            from article_comment c
+                            where c.article_id = :articleId and c.parent_comment_id in (:parentCommentIds)
+                        ) ranked
+                        where rn <= :sizePerParent
+                        """)
+                .setParameter("articleId", articleId)
+                .setParameter("parentCommentIds", parentCommentIds)
+                .setParameter("sizePerParent", sizePerParent)
+                .getResultList();
+        if (childCommentIds.isEmpty()) {return List.of();}
+
+        QArticleComment child = QArticleComment.articleComment;
+        return from(child)
+                .join(child.userAccount).fetchJoin()
+                .where(child.id.in(childCommentIds.stream().map(Number::longValue).toList()))
+                .orderBy(child.createdAt.asc(), child.id.asc())
+                .fetch();
+    }
+
+    // 대댓글 더 보기 : 작성순(createdAt ASC, id ASC)
+    @Override
+    public Slice<ArticleComment> findChildComments(Long parentCommentId, KeysetCursor cursor, int size) {
+        QArticleComment articleComment = QArticleComment.articleComment;
+        BooleanExpression cursorCondition = cursor == null ? null
+                : articleComment.createdAt.gt(cursor.createdAt())
+                    .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.gt(cursor.id())));
+
+        List<ArticleComment> comments = from(articleComment)
+                .join(articleComment.userAccount).fetchJoin()
+                .where(articleComment.parentCommentId.eq(parentCommentId), cursorCondition)
+                .orderBy(articleComment.createdAt.asc(), articleComment.id.asc())
+                .limit(size + 1L)
+                .fetch();
+        return toSlice(comments, size, Sort.Direction.ASC);
+    }
+
+    private Slice<ArticleComment> toSlice(List<ArticleComment> comments, int size, Sort.Direction direction) {
+        boolean hasNext = comments.size() > size;
+        return new SliceImpl<>(hasNext ? comments.subList(0, size) : comments,
+                PageRequest.of(0, size, Sort.by(direction, "createdAt", "id")), hasNext);
+    }
+}
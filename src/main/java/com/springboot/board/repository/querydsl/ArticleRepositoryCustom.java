@@ -1,14 +1,28 @@
 package com.springboot.board.repository.querydsl;
 
 import com.springboot.board.domain.Article;
+import com.springboot.board.domain.constant.SearchType;
+import com.springboot.board.dto.ArticleHashtagDto;
+import com.springboot.board.dto.ArticleSummaryDto;
+import com.springboot.board.dto.ArticleVersionDto;
+import com.springboot.board.dto.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
     @Deprecated
     List<String> findAllDistinctHashtags();
+    Optional<Article> findWithCommentsById(Long articleId);
+    Optional<ArticleVersionDto> findVersionById(Long articleId);
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+    List<Article> findBySearch(SearchType searchType, String searchKeyword, Collection<Long> candidateIds, Pageable pageable);
+    List<ArticleSummaryDto> findSummariesBySearch(SearchType searchType, String searchKeyword, Collection<Long> candidateIds, Pageable pageable);
+    long countBySearch(SearchType searchType, String searchKeyword, Collection<Long> candidateIds);
+    Slice<ArticleSummaryDto> findSummariesByCursor(SearchType searchType, String searchKeyword, KeysetCursor cursor, int size);
+    List<ArticleHashtagDto> findArticleHashtags(Long afterArticleId, Long afterHashtagId, int size);
 }
@@ -1,16 +1,27 @@
 package com.springboot.board.repository.querydsl;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPQLQuery;
 import com.springboot.board.domain.Article;
 import com.springboot.board.domain.QArticle;
+import com.springboot.board.domain.QArticleComment;
 import com.springboot.board.domain.QHashtag;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import com.springboot.board.domain.constant.SearchType;
+import com.springboot.board.dto.ArticleHashtagDto;
+import com.springboot.board.dto.ArticleSummaryDto;
+import com.springboot.board.dto.ArticleVersionDto;
+import com.springboot.board.dto.HashtagQuery;
+import com.springboot.board.dto.KeysetCursor;
+import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
-import java.util.Collection;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
@@ -18,10 +29,56 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
         super(Article.class);
     }
 
+    // 게시글 전체를 훑지 않도록 hashtag 기준으로 조회. 대량 처리는 HashtagService.streamHashtagNamesInUse 를 사용
     @Override
     public List<String> findAllDistinctHashtags() {
+        QHashtag hashtag = QHashtag.hashtag;
+        return from(hashtag)
+                .where(hashtag.articles.isNotEmpty())
+                .orderBy(hashtag.hashtagName.asc())
+                .select(hashtag.hashtagName)
+                .fetch();
+    }
+
+    // 게시글 상세 : 댓글 수와 무관하게 2번의 쿼리로 게시글, 작성자, 해시태그, 전체 댓글과 댓글 작성자를 조회
+    @Override
+    public Optional<Article> findWithCommentsById(Long articleId) {
         QArticle article = QArticle.article;
-        return from(article).distinct().select(article.hashtags.any().hashtagName).fetch();
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        Article result = from(article)
+                .join(article.userAccount).fetchJoin()
+                .leftJoin(article.hashtags, hashtag).fetchJoin()
+                .where(article.id.eq(articleId))
+                .fetchOne();
+        if (result == null) {return Optional.empty();}
+
+        // 같은 영속성 컨텍스트의 article.articleComments 컬렉션을 초기화한다. (해시태그와 함께 fetch join 하면 곱집합이 생기므로 분리)
+        from(article)
+                .leftJoin(article.articleComments, articleComment).fetchJoin()
+                .leftJoin(articleComment.userAccount).fetchJoin()
+                .where(article.id.eq(articleId))
+                .fetch();
+        return Optional.of(result);
+    }
+
+    // 상세 화면을 다시 그려야 하는지 판단 : 게시글 pk + (article_id, modifiedAt) 댓글 인덱스만 읽는 쿼리 1번
+    @Override
+    public Optional<ArticleVersionDto> findVersionById(Long articleId) {
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+        NumberExpression<Long> commentCount = articleComment.count();
+        DateTimeExpression<LocalDateTime> lastCommentModifiedAt = articleComment.modifiedAt.max();
+
+        Tuple row = from(article)
+                .leftJoin(articleComment).on(articleComment.article.eq(article))
+                .where(article.id.eq(articleId))
+                .groupBy(article.id, article.modifiedAt)
+                .select(article.modifiedAt, commentCount, lastCommentModifiedAt)
+                .fetchOne();
+        if (row == null) {return Optional.empty();}
+        return Optional.of(ArticleVersionDto.of(articleId, row.get(article.modifiedAt), row.get(commentCount), row.get(lastCommentModifiedAt)));
     }
 
     @Override
@@ -36,4 +93,156 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
 
         return new PageImpl<>(articles, pageable, query.fetchCount());
     }
+
+    // 목록 조회 : count 쿼리 없이 내용만 조회 (전체 건수는 ArticleCountService 가 관리)
+    @Override
+    public List<Article> findBySearch(SearchType searchType, String searchKeyword, Collection<Long> candidateIds, Pageable pageable) {
+        QArticle article = QArticle.article;
+        JPQLQuery<Article> query = from(article)
+                .where(searchCondition(searchType, searchKeyword), candidateCondition(candidateIds));
+        return applyListPagination(pageable, query).fetch();
+    }
+
+    // 목록 화면용 : 엔티티 대신 표시 컬럼만 조회하고, 해시태그는 조회된 게시글 id 로 한 번 더 조회
+    @Override
+    public List<ArticleSummaryDto> findSummariesBySearch(SearchType searchType, String searchKeyword, Collection<Long> candidateIds, Pageable pageable) {
+        QArticle article = QArticle.article;
+        JPQLQuery<Tuple> query = from(article)
+                .select(summaryColumns())
+                .where(searchCondition(searchType, searchKeyword), candidateCondition(candidateIds));
+        return toSummaries(applyListPagination(pageable, query).fetch());
+    }
+
+    @Override
+    public long countBySearch(SearchType searchType, String searchKeyword, Collection<Long> candidateIds) {
+        QArticle article = QArticle.article;
+        Long count = from(article)
+                .select(article.count())
+                .where(searchCondition(searchType, searchKeyword), candidateCondition(candidateIds))
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSummariesByCursor(SearchType searchType, String searchKeyword, KeysetCursor cursor, int size) {
+        QArticle article = QArticle.article;
+
+        // size + 1 건을 조회해 다음 페이지 존재 여부를 판단한다. (count 쿼리 없음)
+        List<Tuple> rows = from(article)
+                .select(summaryColumns())
+                .where(searchCondition(searchType, searchKeyword), cursorCondition(cursor))
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(toSummaries(hasNext ? rows.subList(0, size) : rows),
+                PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt", "id")), hasNext);
+    }
+
+    // 컬렉션(hashtags) 정렬은 Querydsl 이 처리하지 못하므로 join 후 hashtagName 으로 정렬 (findAll(pageable) 과 동일한 동작)
+    private <T> JPQLQuery<T> applyListPagination(Pageable pageable, JPQLQuery<T> query) {
+        Sort.Order hashtagOrder = pageable.getSort().getOrderFor("hashtags");
+        if (hashtagOrder != null && pageable.isPaged()) {
+            QHashtag hashtag = QHashtag.hashtag;
+            query.leftJoin(QArticle.article.hashtags, hashtag)
+                    .orderBy(hashtagOrder.isAscending() ? hashtag.hashtagName.asc() : hashtag.hashtagName.desc());
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    Sort.by(pageable.getSort().filter(order -> !order.getProperty().equals("hashtags")).toList()));
+        }
+        return getQuerydsl().applyPagination(pageable, query);
+    }
+
+    private Expression<?>[] summaryColumns() {
+        QArticle article = QArticle.article;
+        return new Expression<?>[] {
+                article.id, article.title, article.userAccount.userId, article.userAccount.nickname,
+                article.userAccount.email, article.createdAt
+        };
+    }
+
+    private List<ArticleSummaryDto> toSummaries(List<Tuple> rows) {
+        if (rows.isEmpty()) {return List.of();}
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        // 해시태그 정렬 시 게시글이 해시태그 수만큼 중복되므로 첫 행만 사용
+        Map<Long, Tuple> rowsById = new LinkedHashMap<>();
+        rows.forEach(row -> rowsById.putIfAbsent(row.get(article.id), row));
+
+        Map<Long, Set<String>> hashtagNamesById = new HashMap<>();
+        from(article)
+                .join(article.hashtags, hashtag)
+                .select(article.id, hashtag.hashtagName)
+                .where(article.id.in(rowsById.keySet()))
+                .fetch()
+                .forEach(row -> hashtagNamesById.computeIfAbsent(row.get(article.id), k -> new HashSet<>())
+                        .add(row.get(hashtag.hashtagName)));
+
+        return rowsById.entrySet().stream()
+                .map(entry -> {
+                    Tuple row = entry.getValue();
+                    return ArticleSummaryDto.of(entry.getKey(), row.get(article.title),
+                            row.get(article.userAccount.userId), row.get(article.userAccount.nickname), row.get(article.userAccount.email),
+                            Set.copyOf(hashtagNamesById.getOrDefault(entry.getKey(), Set.of())), row.get(article.createdAt));
+                })
+                .toList();
+    }
+
+    // (articleId, hashtagId) keyset 으로 article_hashtag 를 size 건씩 훑는다. (해시태그 색인 적재용)
+    @Override
+    public List<ArticleHashtagDto> findArticleHashtags(Long afterArticleId, Long afterHashtagId, int size) {
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+        BooleanExpression after = afterArticleId == null ? null
+                : article.id.gt(afterArticleId).or(article.id.eq(afterArticleId).and(hashtag.id.gt(afterHashtagId)));
+        return from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .where(after)
+                .orderBy(article.id.asc(), hashtag.id.asc())
+                .limit(size)
+                .select(article.id, hashtag.id, hashtag.hashtagName)
+                .fetch().stream()
+                .map(row -> ArticleHashtagDto.of(row.get(article.id), row.get(hashtag.id), row.get(hashtag.hashtagName)))
+                .toList();
+    }
+
+    private BooleanExpression searchCondition(SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isEmpty()) {return null;}
+        QArticle article = QArticle.article;
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> hashtagCondition(HashtagQuery.parse(searchKeyword));
+        };
+    }
+
+    private BooleanExpression hashtagCondition(HashtagQuery hashtagQuery) {
+        QArticle article = QArticle.article;
+        if (hashtagQuery.isEmpty()) {return Expressions.FALSE.isTrue();}
+        BooleanExpression condition = null;
+        for (String hashtagName : hashtagQuery.allOf()) {
+            condition = article.hashtags.any().hashtagName.eq(hashtagName).and(condition);
+        }
+        if (!hashtagQuery.anyOf().isEmpty()) {
+            condition = article.hashtags.any().hashtagName.in(hashtagQuery.anyOf()).and(condition);
+        }
+        if (!hashtagQuery.noneOf().isEmpty()) {
+            condition = article.hashtags.any().hashtagName.in(hashtagQuery.noneOf()).not().and(condition);
+        }
+        return condition;
+    }
+
+    private BooleanExpression candidateCondition(Collection<Long> candidateIds) {
+        return candidateIds == null ? null : QArticle.article.id.in(candidateIds);
+    }
+
+    private BooleanExpression cursorCondition(KeysetCursor cursor) {
+        if (cursor == null) {return null;}
+        QArticle article = QArticle.article;
+        return article.createdAt.lt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())));
+    }
 }
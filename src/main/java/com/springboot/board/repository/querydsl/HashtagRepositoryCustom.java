@@ -1,7 +1,14 @@
 package com.springboot.board.repository.querydsl;
 
+import com.springboot.board.domain.Hashtag;
+import com.springboot.board.dto.HashtagCountDto;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface HashtagRepositoryCustom {
     List<String> findAllHashtagNames();
+    List<HashtagCountDto> findHashtagCounts();
+    List<String> findHashtagNamesInUse(String afterHashtagName, int size);
+    List<Hashtag> upsertHashtags(Collection<String> hashtagNames, String createdBy);
 }
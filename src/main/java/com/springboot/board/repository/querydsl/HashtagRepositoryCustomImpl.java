@@ -1,12 +1,23 @@
 package com.springboot.board.repository.querydsl;
 
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.springboot.board.domain.Hashtag;
+import com.springboot.board.domain.QArticle;
 import com.springboot.board.domain.QHashtag;
+import com.springboot.board.dto.HashtagCountDto;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.StringJoiner;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
+    private static final String UPSERT_QUERY_SPACE = "hashtag_upsert";
 
     public HashtagRepositoryCustomImpl() {
         super(Hashtag.class);
@@ -17,4 +28,89 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
         QHashtag hashtag = QHashtag.hashtag;
         return from(hashtag).select(hashtag.hashtagName).fetch();
     }
+
+    // 게시글에 쓰이고 있는 해시태그별 게시글 수 (article_hashtag 를 group by 한 번)
+    @Override
+    public List<HashtagCountDto> findHashtagCounts() {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+        NumberExpression<Long> articleCount = article.id.count();
+        return from(hashtag)
+                .innerJoin(hashtag.articles, article)
+                .groupBy(hashtag.hashtagName)
+                .select(hashtag.hashtagName, articleCount)
+                .fetch().stream()
+                .map(row -> HashtagCountDto.of(row.get(hashtag.hashtagName), row.get(articleCount)))
+                .toList();
+    }
+
+    // 게시글에 쓰이고 있는 해시태그 이름을 이름순 keyset 으로 size 개씩 조회 (hashtag 기준 exists 이므로 해시태그 수에 비례)
+    @Override
+    public List<String> findHashtagNamesInUse(String afterHashtagName, int size) {
+        QHashtag hashtag = QHashtag.hashtag;
+        return from(hashtag)
+                .where(hashtag.articles.isNotEmpty(), afterHashtagName == null ? null : hashtag.hashtagName.gt(afterHashtagName))
+                .orderBy(hashtag.hashtagName.asc())
+                .limit(size)
+                .select(hashtag.hashtagName)
+                .fetch();
+    }
+
+    /*
+     * 해시태그 일괄 upsert : 없는 이름만 insert 하는 statement 1개 + 요청한 이름 전체를 다시 읽는 select 1개
+     * - MySQL : INSERT ... ON DUPLICATE KEY UPDATE (unique 인덱스 충돌 시 아무것도 하지 않음)
+     * - 그 외(H2) : MERGE ... WHEN NOT MATCHED THEN INSERT
+     * 동시에 같은 해시태그를 만드는 글쓰기끼리 경합해도 unique 인덱스가 중복을 막고, 이름순 정렬로 락 순서를 맞춘다.
+     */
+    @Override
+    public List<Hashtag> upsertHashtags(Collection<String> hashtagNames, String createdBy) {
+        if (hashtagNames.isEmpty()) {return List.of();}
+        List<String> sortedNames = hashtagNames.stream().distinct().sorted().toList();
+
+        int nowPosition = sortedNames.size() + 1;
+        int createdByPosition = sortedNames.size() + 2;
+        Query query = getEntityManager().createNativeQuery(isMySql()
+                ? mySqlUpsertStatement(sortedNames.size(), nowPosition, createdByPosition)
+                : mergeStatement(sortedNames.size(), nowPosition, createdByPosition));
+        for (int i = 0; i < sortedNames.size(); i++) {
+            query.setParameter(i + 1, sortedNames.get(i));
+        }
+        /*
+         * 새 행만 추가하고 기존 행은 바꾸지 않으므로, 캐시된 Hashtag 엔티티/쿼리 결과를 비울 필요가 없다.
+         * (Hashtag 로 동기화하면 실행 전 flush 와 함께 hashtag 2차 캐시 region 과 쿼리 캐시가 모두 무효화된다)
+         * 영향 받는 곳을 알려주지 않으면 native DML 은 2차 캐시 전체를 비우므로 어떤 엔티티와도 겹치지 않는 공간으로 지정한다.
+         * 새 이름이 빠진 채 캐시된 findByHashtagNameIn 결과는 HashtagService 가 다시 upsert 하며 바로잡는다.
+         */
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(UPSERT_QUERY_SPACE);
+        query.setParameter(nowPosition, LocalDateTime.now());
+        query.setParameter(createdByPosition, createdBy);
+        query.executeUpdate();
+
+        QHashtag hashtag = QHashtag.hashtag;
+        return from(hashtag).where(hashtag.hashtagName.in(sortedNames)).fetch();
+    }
+
+    private String mySqlUpsertStatement(int size, int nowPosition, int createdByPosition) {
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 1; i <= size; i++) {
+            values.add("(?" + i + ", ?" + nowPosition + ", ?" + createdByPosition + ", ?" + nowPosition + ", ?" + createdByPosition + ")");
+        }
+        return "insert into hashtag (hashtag_name, created_at, created_by, modified_at, modified_by) values " + values
+                + " on duplicate key update id = id";
+    }
+
+    private String mergeStatement(int size, int nowPosition, int createdByPosition) {
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 1; i <= size; i++) {
+            values.add("(cast(?" + i + " as varchar(255)))");
+        }
+        return "merge into hashtag h using (values " + values + ") s(hashtag_name) on h.hashtag_name = s.hashtag_name"
+                + " when not matched then insert (hashtag_name, created_at, created_by, modified_at, modified_by)"
+                + " values (s.hashtag_name, ?" + nowPosition + ", ?" + createdByPosition + ", ?" + nowPosition + ", ?" + createdByPosition + ")";
+    }
+
+    private boolean isMySql() {
+        return getEntityManager().getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+    }
 }
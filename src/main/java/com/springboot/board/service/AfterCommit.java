@@ -0,0 +1,25 @@
+package com.springboot.board.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * DB 쓰기에 맞춰 바꾸는 in-memory 상태(색인, 건수, 화면 캐시 등)는 커밋된 뒤에만 반영한다.
+ * 트랜잭션 안이면 커밋 후에(롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행한다.
+ */
+final class AfterCommit {
+    private AfterCommit() {}
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -4,15 +4,21 @@ import com.springboot.board.domain.Article;
 import com.springboot.board.domain.ArticleComment;
 import com.springboot.board.domain.UserAccount;
 import com.springboot.board.dto.ArticleCommentDto;
+import com.springboot.board.dto.ArticleCommentThreadDto;
+import com.springboot.board.dto.KeysetCursor;
 import com.springboot.board.repository.ArticleCommentRepository;
 import com.springboot.board.repository.ArticleRepository;
 import com.springboot.board.repository.UserAccountRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -22,6 +28,7 @@ public class ArticleCommentService {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final RenderedPageCache renderedPageCache;
 
     //  CREATE COMMENT
     public void saveArticleComment(ArticleCommentDto dto) {
@@ -36,6 +43,7 @@ public class ArticleCommentService {
             } else {
                 articleCommentRepository.save(articleComment);
             }
+            renderedPageCache.contentChanged();
         }catch(EntityNotFoundException e){
             log.warn("댓글 저장할 수 없습니다.댓글 작성에 필요한 정보를 찾을 수 없습니다. {} ",e.getLocalizedMessage());
         }
@@ -48,8 +56,37 @@ public class ArticleCommentService {
                 .stream().map(ArticleCommentDto::from).toList();
     }
 
+    // 최상위 댓글은 cursor 로, 대댓글은 부모마다 childSize 건까지만 조회 (나머지는 searchChildComments)
+    @Transactional(readOnly = true)
+    public Slice<ArticleCommentThreadDto> searchArticleCommentThreads(Long articleId, KeysetCursor cursor, int size, int childSize) {
+        Slice<ArticleComment> rootComments = articleCommentRepository.findRootComments(articleId, cursor, size);
+        List<Long> rootCommentIds = rootComments.map(ArticleComment::getId).getContent();
+
+        // childSize + 1 건을 조회해 대댓글이 더 있는지 판단
+        Map<Long, List<ArticleCommentDto>> childCommentsByParentId = articleCommentRepository
+                .findChildComments(articleId, rootCommentIds, childSize + 1).stream()
+                .map(ArticleCommentDto::from)
+                .collect(Collectors.groupingBy(ArticleCommentDto::parentCommentId));
+
+        List<ArticleCommentThreadDto> threads = rootComments.getContent().stream()
+                .map(rootComment -> {
+                    List<ArticleCommentDto> childComments = childCommentsByParentId.getOrDefault(rootComment.getId(), List.of());
+                    boolean hasMoreChildComments = childComments.size() > childSize;
+                    return ArticleCommentThreadDto.of(ArticleCommentDto.from(rootComment),
+                            hasMoreChildComments ? childComments.subList(0, childSize) : childComments, hasMoreChildComments);
+                })
+                .toList();
+        return new SliceImpl<>(threads, rootComments.getPageable(), rootComments.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ArticleCommentDto> searchChildComments(Long parentCommentId, KeysetCursor cursor, int size) {
+        return articleCommentRepository.findChildComments(parentCommentId, cursor, size).map(ArticleCommentDto::from);
+    }
+
     // DELETE COMMENT
     public void deleteArticleComment(Long articleCommentId, String userId) {
         articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        renderedPageCache.contentChanged();
     }
 }
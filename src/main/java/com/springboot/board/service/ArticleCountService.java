@@ -0,0 +1,113 @@
+package com.springboot.board.service;
+
+import com.springboot.board.domain.constant.SearchType;
+import com.springboot.board.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/*
+ * 게시글 건수 관리.
+ * - 전체 건수, 해시태그별 건수 : 최초 조회 시 DB 에서 읽고, 이후 쓰기 때마다 증감. 오차 보정을 위해 주기적으로 다시 읽는다.
+ * - 임의 검색 조건 건수 : TTL 동안만 캐시 (근사값)
+ */
+@RequiredArgsConstructor
+@Service
+public class ArticleCountService {
+    private static final Duration RESYNC_INTERVAL = Duration.ofMinutes(10);
+    private static final Duration SEARCH_COUNT_TTL = Duration.ofSeconds(30);
+    private static final int MAX_SEARCH_COUNT_ENTRIES = 10_000;
+
+    private final ArticleRepository articleRepository;
+
+    private volatile CachedCount totalCount;
+    private final Map<String, CachedCount> hashtagCounts = new ConcurrentHashMap<>();
+    private final Map<String, CachedCount> searchCounts = new ConcurrentHashMap<>();
+
+    public long getTotalCount() {
+        CachedCount cached = totalCount;
+        if (cached == null || cached.isOlderThan(RESYNC_INTERVAL)) {
+            cached = new CachedCount(articleRepository.count());
+            totalCount = cached;
+        }
+        return cached.get();
+    }
+
+    public long getHashtagCount(String hashtagName) {
+        CachedCount cached = hashtagCounts.get(hashtagName);
+        if (cached == null || cached.isOlderThan(RESYNC_INTERVAL)) {
+            cached = new CachedCount(articleRepository.countByHashtags_HashtagName(hashtagName));
+            hashtagCounts.put(hashtagName, cached);
+        }
+        return cached.get();
+    }
+
+    public long getSearchCount(SearchType searchType, String searchKeyword, LongSupplier counter) {
+        String key = searchType.name() + ":" + searchKeyword;
+        CachedCount cached = searchCounts.get(key);
+        if (cached == null || cached.isOlderThan(SEARCH_COUNT_TTL)) {
+            if (searchCounts.size() >= MAX_SEARCH_COUNT_ENTRIES) {
+                searchCounts.values().removeIf(count -> count.isOlderThan(SEARCH_COUNT_TTL));
+                if (searchCounts.size() >= MAX_SEARCH_COUNT_ENTRIES) {searchCounts.clear();}
+            }
+            cached = new CachedCount(counter.getAsLong());
+            searchCounts.put(key, cached);
+        }
+        return cached.get();
+    }
+
+    /* 쓰기 시 증감 : 아직 읽지 않은 건수는 다음 조회 때 DB 에서 읽으므로 무시한다. */
+    public void articleCreated(Collection<String> hashtagNames) {
+        adjustTotalCount(1);
+        adjustHashtagCounts(hashtagNames, 1);
+    }
+
+    public void articleDeleted(Collection<String> hashtagNames) {
+        adjustTotalCount(-1);
+        adjustHashtagCounts(hashtagNames, -1);
+    }
+
+    public void hashtagsChanged(Collection<String> removedHashtagNames, Collection<String> addedHashtagNames) {
+        adjustHashtagCounts(removedHashtagNames, -1);
+        adjustHashtagCounts(addedHashtagNames, 1);
+    }
+
+    private void adjustTotalCount(long delta) {
+        CachedCount cached = totalCount;
+        if (cached != null) {cached.add(delta);}
+    }
+
+    private void adjustHashtagCounts(Collection<String> hashtagNames, long delta) {
+        hashtagNames.forEach(hashtagName -> {
+            CachedCount cached = hashtagCounts.get(hashtagName);
+            if (cached != null) {cached.add(delta);}
+        });
+    }
+
+    private static final class CachedCount {
+        private final long loadedAt = System.nanoTime();
+        private final AtomicLong value;
+
+        private CachedCount(long value) {
+            this.value = new AtomicLong(value);
+        }
+
+        long get() {
+            return Math.max(value.get(), 0L);
+        }
+
+        void add(long delta) {
+            value.addAndGet(delta);
+        }
+
+        boolean isOlderThan(Duration duration) {
+            return System.nanoTime() - loadedAt > duration.toNanos();
+        }
+    }
+}
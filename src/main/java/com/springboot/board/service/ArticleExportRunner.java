@@ -0,0 +1,39 @@
+package com.springboot.board.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/*
+ * 게시글 전체 내보내기 실행 (board.article-export.file 이 있을 때만 동작, 야간 백업용)
+ * ex) java -jar board.jar --board.article-export.file=/backup/articles.jsonl.gz
+ * 확장자가 .gz 면 gzip 으로 압축한다. 중간에 실패해도 기존 파일이 깨지지 않도록 임시 파일에 쓴 뒤 옮긴다.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.article-export.file")
+@Component
+public class ArticleExportRunner implements ApplicationRunner {
+    private final ArticleExportService articleExportService;
+
+    @Value("${board.article-export.file}")
+    private String file;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path target = Path.of(file).toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            articleExportService.exportArticles(out, target.getFileName().toString().endsWith(".gz"));
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
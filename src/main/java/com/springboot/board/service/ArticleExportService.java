@@ -0,0 +1,213 @@
+package com.springboot.board.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * 게시글 전체 내보내기 (JSON lines, 한 줄에 게시글 하나 + 해시태그 + 댓글)
+ * 엔티티를 만들지 않고 게시글을 id 순서로 board.article-export.batch-size 건씩 keyset 조회(id > 마지막 id)하고,
+ * 그 구간의 해시태그와 댓글을 (게시글 id, id) 순서로 읽어 게시글에 맞춰 바로 쓴다.
+ * - 정렬은 모두 PK/인덱스 순서라 전체 정렬 없이 첫 행부터 내려보내고, 메모리에는 게시글 한 batch 와 그 해시태그만 둔다. (댓글은 커서로 흘려 쓴다)
+ * - 한 커넥션에 커서를 하나씩만 차례로 열므로 MySQL 스트리밍(useCursorFetch=true 또는 fetchSize=Integer.MIN_VALUE)에서도 동작한다.
+ * - batch 마다 따로 읽으므로 긴 트랜잭션을 잡지 않는다. 대신 내보내는 도중 바뀐 글은 한 시점의 스냅샷과 다를 수 있다.
+ * 출력은 ArticleImportService 로 다시 가져올 수 있는 형식이다. (가져올 때 대댓글은 일반 댓글이 된다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleExportService {
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_ARTICLES = """
+            select a.id, a.user_id, a.title, a.content, a.created_at, a.created_by, a.modified_at, a.modified_by
+            from article a
+            where a.id > ?
+            order by a.id
+            limit ?
+            """;
+    private static final String SELECT_HASHTAGS = """
+            select ah.article_id, h.hashtag_name
+            from article_hashtag ah join hashtag h on h.id = ah.hashtag_id
+            where ah.article_id between ? and ?
+            order by ah.article_id, h.id
+            """;
+    private static final String SELECT_COMMENTS = """
+            select c.id, c.article_id, c.parent_comment_id, c.user_id, c.content, c.created_at, c.created_by, c.modified_at, c.modified_by
+            from article_comment c
+            where c.article_id between ? and ?
+            order by c.article_id, c.id
+            """;
+
+    private static final RowMapper<ArticleRow> ARTICLE_ROW_MAPPER = (rs, rowNum) -> new ArticleRow(
+            rs.getLong("id"),
+            rs.getString("user_id"),
+            rs.getString("title"),
+            rs.getString("content"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getString("created_by"),
+            rs.getObject("modified_at", LocalDateTime.class),
+            rs.getString("modified_by"));
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${board.article-export.batch-size:500}")
+    private int batchSize;
+
+    public Result exportArticles(OutputStream out, boolean gzip) throws IOException {
+        long startedAt = System.nanoTime();
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        ArticleLineWriter writer;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            // 응답/파일 스트림은 호출한 쪽에서 닫는다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer = new ArticleLineWriter(generator);
+            long lastArticleId = 0L;
+            List<ArticleRow> articles;
+            while (!(articles = jdbcTemplate.query(SELECT_ARTICLES, ARTICLE_ROW_MAPPER, lastArticleId, batchSize)).isEmpty()) {
+                writeBatch(articles, writer);
+                lastArticleId = articles.get(articles.size() - 1).id();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (target instanceof GZIPOutputStream gzipOutputStream) {gzipOutputStream.finish();}
+        out.flush();
+
+        Result result = new Result(writer.articleCount, writer.commentCount);
+        log.info("게시글 내보내기 완료. {}, {} ms", result, (System.nanoTime() - startedAt) / 1_000_000);
+        return result;
+    }
+
+    private void writeBatch(List<ArticleRow> articles, ArticleLineWriter writer) {
+        long firstArticleId = articles.get(0).id();
+        long lastArticleId = articles.get(articles.size() - 1).id();
+
+        Map<Long, List<String>> hashtagNames = new HashMap<>();
+        jdbcTemplate.query(SELECT_HASHTAGS,
+                rs -> {hashtagNames.computeIfAbsent(rs.getLong("article_id"), id -> new ArrayList<>()).add(rs.getString("hashtag_name"));},
+                firstArticleId, lastArticleId);
+
+        writer.startBatch(articles, hashtagNames);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_COMMENTS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, firstArticleId);
+            statement.setLong(2, lastArticleId);
+            return statement;
+        }, writer::writeComment);
+        writer.finishBatch();
+    }
+
+    public record Result(long exportedArticles, long exportedComments) {}
+
+    private record ArticleRow(long id, String userId, String title, String content,
+                              LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {}
+
+    // 댓글은 게시글 id 순서로 들어오므로, 댓글의 게시글에 닿을 때까지 batch 의 게시글을 차례로 쓰고 닫으며 댓글 배열에 이어 쓴다.
+    private static class ArticleLineWriter {
+        private final JsonGenerator generator;
+        private Iterator<ArticleRow> pendingArticles;
+        private Map<Long, List<String>> hashtagNames;
+        private ArticleRow currentArticle;
+        private long articleCount;
+        private long commentCount;
+
+        ArticleLineWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        void startBatch(List<ArticleRow> articles, Map<Long, List<String>> hashtagNames) {
+            this.pendingArticles = articles.iterator();
+            this.hashtagNames = hashtagNames;
+        }
+
+        void writeComment(ResultSet rs) throws SQLException {
+            try {
+                long articleId = rs.getLong("article_id");
+                while ((currentArticle == null || currentArticle.id() < articleId) && pendingArticles.hasNext()) {
+                    finishArticle();
+                    startArticle(pendingArticles.next());
+                }
+                // batch 를 읽은 뒤 끼어든 게시글의 댓글은 건너뛴다.
+                if (currentArticle == null || currentArticle.id() != articleId) {return;}
+
+                generator.writeStartObject();
+                generator.writeNumberField("id", rs.getLong("id"));
+                long parentCommentId = rs.getLong("parent_comment_id");
+                if (rs.wasNull()) {generator.writeNullField("parentCommentId");}
+                else {generator.writeNumberField("parentCommentId", parentCommentId);}
+                generator.writeStringField("userId", rs.getString("user_id"));
+                generator.writeStringField("content", rs.getString("content"));
+                writeAuditingFields(rs.getObject("created_at", LocalDateTime.class), rs.getString("created_by"),
+                        rs.getObject("modified_at", LocalDateTime.class), rs.getString("modified_by"));
+                generator.writeEndObject();
+                commentCount++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finishBatch() {
+            try {
+                finishArticle();
+                while (pendingArticles.hasNext()) {
+                    startArticle(pendingArticles.next());
+                    finishArticle();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void startArticle(ArticleRow article) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", article.id());
+            generator.writeStringField("userId", article.userId());
+            generator.writeStringField("title", article.title());
+            generator.writeStringField("content", article.content());
+            writeAuditingFields(article.createdAt(), article.createdBy(), article.modifiedAt(), article.modifiedBy());
+            generator.writeArrayFieldStart("hashtags");
+            for (String hashtagName : hashtagNames.getOrDefault(article.id(), List.of())) {generator.writeString(hashtagName);}
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("comments");
+            currentArticle = article;
+            articleCount++;
+        }
+
+        private void finishArticle() throws IOException {
+            if (currentArticle == null) {return;}
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            currentArticle = null;
+        }
+
+        private void writeAuditingFields(LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) throws IOException {
+            generator.writeStringField("createdAt", createdAt.toString());
+            generator.writeStringField("createdBy", createdBy);
+            generator.writeStringField("modifiedAt", modifiedAt.toString());
+            generator.writeStringField("modifiedBy", modifiedBy);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.springboot.board.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/*
+ * 게시글 일괄 가져오기 실행 (board.article-import.file 이 있을 때만 동작)
+ * ex) java -jar board.jar --board.article-import.file=/data/legacy-posts.jsonl
+ * 확장자가 .csv 면 CSV, 그 외는 JSON lines 로 읽는다. 중단되면 같은 파일로 다시 실행해 이어서 가져온다.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.article-import.file")
+@Component
+public class ArticleImportRunner implements ApplicationRunner {
+    private final ArticleImportService articleImportService;
+
+    @Value("${board.article-import.file}")
+    private String file;
+
+    @Value("${board.article-import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        articleImportService.importArticles(Path.of(file), chunkSize);
+    }
+}
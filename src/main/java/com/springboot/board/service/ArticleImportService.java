@@ -0,0 +1,268 @@
+package com.springboot.board.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.springboot.board.domain.Hashtag;
+import com.springboot.board.domain.ImportCheckpoint;
+import com.springboot.board.domain.UserAccount;
+import com.springboot.board.dto.ArticleImportRow;
+import com.springboot.board.repository.ImportCheckpointRepository;
+import com.springboot.board.repository.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*
+ * 게시글/댓글/해시태그 일괄 가져오기 (JSON lines, CSV)
+ * 파일을 한 행씩 읽어 chunkSize 건마다 하나의 트랜잭션으로 저장한다.
+ * - 작성자는 chunk 단위로 한 번에 조회하고, 없는 작성자의 게시글/댓글은 건너뛴다.
+ * - 해시태그는 HashtagService 로 추출/upsert 하고, 게시글/댓글/article_hashtag 는 JDBC batch insert 로 쓴다.
+ * - id 는 엔티티의 @TableGenerator 와 같은 id_sequence 에서 chunk 단위로 미리 받는다.
+ * - 파일별 진행 위치(ImportCheckpoint)를 같은 트랜잭션에서 갱신하므로, 중단 후 다시 실행하면 커밋된 다음 행부터 이어서 가져온다.
+ * - chunk 저장이 실패하면 그 chunk 를 한 행씩 다시 저장하고, 혼자서도 실패하는 행은 건너뛴 것으로 기록하고 넘어간다.
+ *   (잘못된 행 하나 때문에 다시 실행해도 같은 chunk 에서 계속 멈추는 일이 없도록)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleImportService {
+    private static final String IMPORTED_BY = "import";
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_CONTENT_LENGTH = 10_000;
+    private static final int MAX_COMMENT_LENGTH = 500;
+    private static final int MAX_HASHTAG_LENGTH = 255;
+
+    private static final String INSERT_ARTICLE = "insert into article (id, user_id, title, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ARTICLE_HASHTAG = "insert into article_hashtag (article_id, hashtag_id) values (?, ?)";
+    private static final String INSERT_ARTICLE_COMMENT = "insert into article_comment (id, article_id, user_id, parent_comment_id, content, created_at, created_by, modified_at, modified_by) values (?, ?, ?, null, ?, ?, ?, ?, ?)";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final HashtagService hashtagService;
+    private final UserAccountRepository userAccountRepository;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleCountService articleCountService;
+    private final HashtagPopularityIndex hashtagPopularityIndex;
+    private final HashtagPostingIndex hashtagPostingIndex;
+    private final RenderedPageCache renderedPageCache;
+
+    public Result importArticles(Path file, int chunkSize) throws IOException {
+        String source = file.toAbsolutePath().normalize().toString();
+        long position = importCheckpointRepository.findById(source).map(ImportCheckpoint::getPosition).orElse(0L);
+        Progress progress = new Progress(source, position);
+        if (position > 0) {log.info("게시글 가져오기를 이어서 진행합니다. file: {}, position: {}", source, position);}
+
+        try (MappingIterator<ArticleImportRow> rows = openRows(file)) {
+            for (long skipped = 0; skipped < position && rows.hasNextValue(); skipped++) {rows.nextValue();}
+            List<ArticleImportRow> chunk = new ArrayList<>(chunkSize);
+            while (rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {importChunk(chunk, progress);}
+        }
+        log.info("게시글 가져오기 완료. {}", progress.toResult());
+        return progress.toResult();
+    }
+
+    private MappingIterator<ArticleImportRow> openRows(Path file) throws IOException {
+        if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+            return CSV_MAPPER.readerFor(ArticleImportRow.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+        }
+        return objectMapper.readerFor(ArticleImportRow.class).readValues(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    }
+
+    private void importChunk(List<ArticleImportRow> rows, Progress progress) {
+        // 건너뛸 행의 id 는 버린다. (id 는 중간이 비어도 된다)
+        int commentCount = rows.stream().mapToInt(row -> row.comments().size()).sum();
+        long firstArticleId = reserveIds("article", rows.size());
+        long firstCommentId = reserveIds("article_comment", commentCount);
+        long nextPosition = progress.position + rows.size();
+
+        ChunkResult chunkResult;
+        try {
+            chunkResult = transactionTemplate.execute(status ->
+                    writeChunk(rows, firstArticleId, firstCommentId, progress.source, nextPosition));
+        } catch (RuntimeException e) {
+            if (rows.size() > 1) {
+                log.warn("게시글 chunk 저장을 실패해 한 행씩 다시 저장합니다. file: {}, position: {}", progress.source, progress.position, e);
+                rows.forEach(row -> importChunk(List.of(row), progress));
+                return;
+            }
+            log.error("게시글 행을 저장하지 못해 건너뜁니다. file: {}, position: {}", progress.source, progress.position, e);
+            transactionTemplate.executeWithoutResult(status -> moveCheckpoint(progress.source, nextPosition));
+            chunkResult = new ChunkResult(List.of(), 0, 1, commentCount);
+        }
+
+        // 커밋 후 in-memory 색인/캐시 반영
+        for (ImportedArticle article : chunkResult.articles()) {
+            articleSearchIndex.add(article.id(), article.title(), article.content());
+            articleCountService.articleCreated(article.hashtagNames());
+            hashtagPopularityIndex.hashtagsChanged(Set.of(), article.hashtagNames());
+            hashtagPostingIndex.add(article.id(), article.hashtagNames());
+        }
+        if (!chunkResult.articles().isEmpty()) {renderedPageCache.contentChanged();}
+        progress.add(rows.size(), chunkResult);
+        log.info("게시글 가져오기 진행 중. {}, {} rows/s", progress.toResult(), progress.rowsPerSecond());
+    }
+
+    private ChunkResult writeChunk(List<ArticleImportRow> rows, long firstArticleId, long firstCommentId, String source, long nextPosition) {
+        Set<String> userIds = rows.stream()
+                .flatMap(row -> Stream.concat(Stream.of(row.userId()), row.comments().stream().map(ArticleImportRow.Comment::userId)))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> knownUserIds = userAccountRepository.findAllById(userIds).stream()
+                .map(UserAccount::getUserId)
+                .collect(Collectors.toSet());
+
+        List<ImportedArticle> articles = new ArrayList<>(rows.size());
+        List<Object[]> articleArgs = new ArrayList<>(rows.size());
+        List<Object[]> commentArgs = new ArrayList<>();
+        long articleId = firstArticleId;
+        long commentId = firstCommentId;
+        int skippedComments = 0;
+        for (ArticleImportRow row : rows) {
+            long id = articleId++;
+            if (!knownUserIds.contains(row.userId()) || !isValidArticle(row)) {
+                commentId += row.comments().size();
+                skippedComments += row.comments().size();
+                continue;
+            }
+            LocalDateTime createdAt = row.createdAt() == null ? LocalDateTime.now() : row.createdAt();
+            articles.add(new ImportedArticle(id, row.title(), row.content(), hashtagNamesOf(row.content())));
+            articleArgs.add(new Object[]{id, row.userId(), row.title(), row.content(), createdAt, row.userId(), createdAt, row.userId()});
+
+            for (ArticleImportRow.Comment comment : row.comments()) {
+                long cid = commentId++;
+                if (!knownUserIds.contains(comment.userId()) || !isValidComment(comment)) {
+                    skippedComments++;
+                    continue;
+                }
+                LocalDateTime commentedAt = comment.createdAt() == null ? createdAt : comment.createdAt();
+                commentArgs.add(new Object[]{cid, id, comment.userId(), comment.content(), commentedAt, comment.userId(), commentedAt, comment.userId()});
+            }
+        }
+
+        // 해시태그는 chunk 전체 이름을 모아 한 번에 upsert
+        Set<String> hashtagNames = articles.stream().flatMap(article -> article.hashtagNames().stream()).collect(Collectors.toSet());
+        Map<String, Long> hashtagIds = hashtagService.upsertHashtags(hashtagNames, IMPORTED_BY).stream()
+                .collect(Collectors.toMap(Hashtag::getHashtagName, Hashtag::getId));
+        List<Object[]> articleHashtagArgs = new ArrayList<>();
+        articles.forEach(article -> article.hashtagNames()
+                .forEach(hashtagName -> articleHashtagArgs.add(new Object[]{article.id(), hashtagIds.get(hashtagName)})));
+
+        jdbcTemplate.batchUpdate(INSERT_ARTICLE, articleArgs);
+        jdbcTemplate.batchUpdate(INSERT_ARTICLE_HASHTAG, articleHashtagArgs);
+        jdbcTemplate.batchUpdate(INSERT_ARTICLE_COMMENT, commentArgs);
+
+        moveCheckpoint(source, nextPosition);
+        return new ChunkResult(articles, commentArgs.size(), rows.size() - articles.size(), skippedComments);
+    }
+
+    private void moveCheckpoint(String source, long nextPosition) {
+        importCheckpointRepository.findById(source).ifPresentOrElse(
+                checkpoint -> checkpoint.moveTo(nextPosition),
+                () -> importCheckpointRepository.save(ImportCheckpoint.of(source, nextPosition)));
+    }
+
+    // hashtag.hashtag_name 컬럼보다 긴 해시태그는 게시글은 가져오되 해시태그로 만들지 않는다.
+    private Set<String> hashtagNamesOf(String content) {
+        return hashtagService.parseHashtagNames(content).stream()
+                .filter(hashtagName -> hashtagName.length() <= MAX_HASHTAG_LENGTH)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /*
+     * id_sequence 에서 count 개의 id 구간을 받는다. Hibernate(pooled-lo)와 같이 저장된 값을 구간의 시작값으로 쓴다.
+     * 행 잠금을 chunk 트랜잭션 내내 잡지 않도록 별도 트랜잭션으로 처리한다.
+     */
+    private long reserveIds(String sequenceName, int count) {
+        if (count == 0) {return 0L;}
+        return transactionTemplate.execute(status -> {
+            List<Long> current = jdbcTemplate.queryForList(
+                    "select next_val from id_sequence where sequence_name = ? for update", Long.class, sequenceName);
+            if (current.isEmpty()) {
+                jdbcTemplate.update("insert into id_sequence (sequence_name, next_val) values (?, ?)", sequenceName, 1L + count);
+                return 1L;
+            }
+            jdbcTemplate.update("update id_sequence set next_val = ? where sequence_name = ?", current.get(0) + count, sequenceName);
+            return current.get(0);
+        });
+    }
+
+    private static boolean isValidArticle(ArticleImportRow row) {
+        return row.title() != null && !row.title().isBlank() && row.title().length() <= MAX_TITLE_LENGTH
+                && row.content() != null && !row.content().isBlank() && row.content().length() <= MAX_CONTENT_LENGTH;
+    }
+
+    private static boolean isValidComment(ArticleImportRow.Comment comment) {
+        return comment.content() != null && !comment.content().isBlank() && comment.content().length() <= MAX_COMMENT_LENGTH;
+    }
+
+    public record Result(String source, long position, long importedArticles, long importedComments, long skippedArticles, long skippedComments) {}
+
+    private record ImportedArticle(long id, String title, String content, Set<String> hashtagNames) {}
+
+    private record ChunkResult(List<ImportedArticle> articles, int importedComments, int skippedArticles, int skippedComments) {}
+
+    private static final class Progress {
+        private final String source;
+        private final long startedAt = System.nanoTime();
+        private final long startPosition;
+        private long position;
+        private long importedArticles;
+        private long importedComments;
+        private long skippedArticles;
+        private long skippedComments;
+
+        private Progress(String source, long position) {
+            this.source = source;
+            this.startPosition = position;
+            this.position = position;
+        }
+
+        void add(int rowCount, ChunkResult chunkResult) {
+            position += rowCount;
+            importedArticles += chunkResult.articles().size();
+            importedComments += chunkResult.importedComments();
+            skippedArticles += chunkResult.skippedArticles();
+            skippedComments += chunkResult.skippedComments();
+        }
+
+        long rowsPerSecond() {
+            long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1L);
+            return (position - startPosition) * 1_000_000_000L / elapsedNanos;
+        }
+
+        Result toResult() {
+            return new Result(source, position, importedArticles, importedComments, skippedArticles, skippedComments);
+        }
+    }
+}
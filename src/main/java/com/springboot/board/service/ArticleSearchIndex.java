@@ -0,0 +1,243 @@
+package com.springboot.board.service;
+
+import com.springboot.board.domain.constant.SearchType;
+import com.springboot.board.dto.ArticleTextDto;
+import com.springboot.board.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 제목/본문 검색용 in-memory 역색인.
+ * 토큰을 n-gram(한글 2-gram, 그 외 3-gram)으로 쪼개 articleId 후보를 좁히고,
+ * 실제 LIKE 조건 확인은 DB 에서 후보 id 에 대해서만 수행한다. (후보는 항상 정답의 상위집합)
+ * n-gram 별 게시글 id 는 압축 비트맵(Roaring64Bitmap)으로 저장해, 흔한 n-gram 도 게시글당 몇 bit 만 쓴다.
+ * n-gram 보다 짧은 토큰은 토큰 자체를 색인하고, 짧은 검색어는 그 검색어를 포함하는 색인 키들의 합집합으로 후보를 구한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+    private static final int HANGUL_GRAM_SIZE = 2;
+    private static final int WORD_GRAM_SIZE = 3;
+    private static final int LOADING_CHUNK_SIZE = 1_000;
+
+    private static final int NONE = 0;
+    private static final int WORD = 1;
+    private static final int HANGUL = 2;
+
+    private final ArticleRepository articleRepository;
+
+    // Roaring64Bitmap 은 동시 읽기/쓰기에 안전하지 않으므로 색인 전체를 read/write lock 으로 보호한다. (쓰기는 게시글 단위로 짧다)
+    private final Map<String, Roaring64Bitmap> titleIndex = new HashMap<>();
+    private final Map<String, Roaring64Bitmap> contentIndex = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // 트랜잭션 밖에서 DTO 로만 조회하므로 chunk 사이에 영속성 컨텍스트에 남는 엔티티가 없다.
+        long lastId = 0L;
+        List<ArticleTextDto> chunk;
+        do {
+            chunk = articleRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+            for (ArticleTextDto article : chunk) {
+                add(article.id(), article.title(), article.content());
+                lastId = article.id();
+            }
+        } while (chunk.size() == LOADING_CHUNK_SIZE);
+        loaded = true;
+        log.info("게시글 검색 색인 적재 완료. titleGrams: {}, contentGrams: {}", titleIndex.size(), contentIndex.size());
+    }
+
+    public void add(Long articleId, String title, String content) {
+        if (articleId == null) {return;}
+        Set<String> titleGrams = extractGrams(title);
+        Set<String> contentGrams = extractGrams(content);
+        lock.writeLock().lock();
+        try {
+            titleGrams.forEach(gram -> titleIndex.computeIfAbsent(gram, k -> new Roaring64Bitmap()).addLong(articleId));
+            contentGrams.forEach(gram -> contentIndex.computeIfAbsent(gram, k -> new Roaring64Bitmap()).addLong(articleId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long articleId, String title, String content) {
+        if (articleId == null) {return;}
+        Set<String> titleGrams = extractGrams(title);
+        Set<String> contentGrams = extractGrams(content);
+        lock.writeLock().lock();
+        try {
+            titleGrams.forEach(gram -> removePosting(titleIndex, gram, articleId));
+            contentGrams.forEach(gram -> removePosting(contentIndex, gram, articleId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(Long articleId, String oldTitle, String oldContent, String newTitle, String newContent) {
+        remove(articleId, oldTitle, oldContent);
+        add(articleId, newTitle, newContent);
+    }
+
+    /*
+     * 검색어를 포함할 수 있는 게시글 id 후보를 비트맵 그대로 돌려준다. (후보가 많아도 Set 으로 풀지 않는다)
+     * 색인으로 답할 수 없는 경우(적재 전, 글자/숫자가 없는 검색어, 색인하지 않는 SearchType)는 Optional.empty() 를 돌려주며,
+     * 이 때 호출자는 기존 LIKE 검색으로 처리해야 한다.
+     */
+    public Optional<Candidates> search(SearchType searchType, String keyword) {
+        Map<String, Roaring64Bitmap> index = switch (searchType) {
+            case TITLE -> titleIndex;
+            case CONTENT -> contentIndex;
+            default -> null;
+        };
+        if (index == null || !loaded) {return Optional.empty();}
+
+        List<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty()) {return Optional.empty();}
+
+        Set<String> grams = new HashSet<>();
+        Set<String> shortTokens = new HashSet<>();
+        for (String token : tokens) {
+            int gramSize = gramSizeOf(token);
+            if (token.length() < gramSize) {
+                shortTokens.add(token);
+                continue;
+            }
+            for (int i = 0; i + gramSize <= token.length(); i++) {
+                grams.add(token.substring(i, i + gramSize));
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            return Optional.of(new Candidates(intersect(postingsOf(index, grams, shortTokens))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * 짧은 토큰은 어떤 n-gram 안이나 짧은 토큰 키 자체에만 나타나므로, 토큰을 포함하는 색인 키들의 합집합이 후보가 된다.
+     * (게시글이 아닌 색인 키만 훑는다) 일치하는 키가 없는 gram/토큰이 있으면 null 을 돌려준다.
+     */
+    private static List<Roaring64Bitmap> postingsOf(Map<String, Roaring64Bitmap> index, Set<String> grams, Set<String> shortTokens) {
+        List<Roaring64Bitmap> postings = new ArrayList<>(grams.size() + shortTokens.size());
+        for (String gram : grams) {
+            Roaring64Bitmap posting = index.get(gram);
+            if (posting == null) {return null;}
+            postings.add(posting);
+        }
+        for (String token : shortTokens) {
+            Roaring64Bitmap posting = new Roaring64Bitmap();
+            index.forEach((key, keyPosting) -> {
+                if (key.contains(token)) {posting.or(keyPosting);}
+            });
+            if (posting.isEmpty()) {return null;}
+            postings.add(posting);
+        }
+        return postings;
+    }
+
+    // 작은 posting 부터 교집합을 구해 중간 결과를 줄인다. 결과는 항상 새 비트맵이다.
+    private static Roaring64Bitmap intersect(List<Roaring64Bitmap> postings) {
+        if (postings == null) {return new Roaring64Bitmap();}
+        postings.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+
+        Roaring64Bitmap matched = postings.get(0).clone();
+        for (int i = 1; i < postings.size() && !matched.isEmpty(); i++) {
+            matched.and(postings.get(i));
+        }
+        return matched;
+    }
+
+    private static void removePosting(Map<String, Roaring64Bitmap> index, String gram, Long articleId) {
+        index.computeIfPresent(gram, (k, posting) -> {
+            posting.removeLong(articleId);
+            return posting.isEmpty() ? null : posting;
+        });
+    }
+
+    static Set<String> extractGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (String token : tokenize(text)) {
+            int gramSize = gramSizeOf(token);
+            if (token.length() < gramSize) {
+                grams.add(token);
+                continue;
+            }
+            for (int i = 0; i + gramSize <= token.length(); i++) {
+                grams.add(token.substring(i, i + gramSize));
+            }
+        }
+        return grams;
+    }
+
+    /* 한글 음절(가-힣)과 그 외 문자/숫자를 서로 다른 토큰으로 분리하고 소문자로 정규화 */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {return tokens;}
+
+        StringBuilder token = new StringBuilder();
+        int tokenClass = NONE;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int charClass = charClassOf(c);
+            if (charClass != tokenClass && !token.isEmpty()) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+            tokenClass = charClass;
+            if (charClass != NONE) {token.append(Character.toLowerCase(c));}
+        }
+        if (!token.isEmpty()) {tokens.add(token.toString());}
+        return tokens;
+    }
+
+    /* 검색 후보 : id 순으로 훑을 수 있도록 비트맵을 그대로 감싼다. (색인과 공유하지 않는 복사본) */
+    public record Candidates(Roaring64Bitmap articleIds) {
+        public static Candidates of(Collection<Long> articleIds) {
+            Roaring64Bitmap bitmap = new Roaring64Bitmap();
+            articleIds.forEach(bitmap::addLong);
+            return new Candidates(bitmap);
+        }
+
+        public long count() {
+            return articleIds.getLongCardinality();
+        }
+
+        public boolean isEmpty() {
+            return articleIds.isEmpty();
+        }
+
+        public Set<Long> toSet() {
+            Set<Long> ids = new HashSet<>((int) (count() / 0.75f) + 1);
+            articleIds.forEach(ids::add);
+            return ids;
+        }
+
+        // 큰 id 부터 (최신 글부터)
+        public LongIterator descendingIds() {
+            return articleIds.getReverseLongIterator();
+        }
+    }
+
+    private static int charClassOf(char c) {
+        if (c >= '가' && c <= '힣') {return HANGUL;}
+        if (Character.isLetterOrDigit(c)) {return WORD;}
+        return NONE;
+    }
+
+    private static int gramSizeOf(String token) {
+        return charClassOf(token.charAt(0)) == HANGUL ? HANGUL_GRAM_SIZE : WORD_GRAM_SIZE;
+    }
+}
@@ -5,20 +5,30 @@ import com.springboot.board.domain.Hashtag;
 import com.springboot.board.domain.UserAccount;
 import com.springboot.board.domain.constant.SearchType;
 import com.springboot.board.dto.ArticleDto;
+import com.springboot.board.dto.ArticleSummaryDto;
+import com.springboot.board.dto.ArticleVersionDto;
 import com.springboot.board.dto.ArticleWithCommentsDto;
+import com.springboot.board.dto.HashtagCountDto;
+import com.springboot.board.dto.HashtagQuery;
+import com.springboot.board.dto.KeysetCursor;
 import com.springboot.board.repository.ArticleRepository;
-import com.springboot.board.repository.HashtagRepository;
 import com.springboot.board.repository.UserAccountRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.Set;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,19 +36,37 @@ import java.util.stream.Collectors;
 @Transactional
 @Service
 public class ArticleService {
+    // 검색 색인 후보를 IN 목록으로 넘기는 최대 건수. 넘으면 후보 비트맵을 id 순으로 나눠 확인한다.
+    private static final int MAX_IN_CANDIDATES = 10_000;
+    private static final int CANDIDATE_CHUNK_SIZE = 1_000;
+
     private final HashtagService hashtagService;
-    private final HashtagRepository hashtagRepository;
+    private final HashtagOutboxService hashtagOutboxService;
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleCountService articleCountService;
+    private final HashtagPopularityIndex hashtagPopularityIndex;
+    private final HashtagPostingIndex hashtagPostingIndex;
+    private final RenderedPageCache renderedPageCache;
 
     /* Article CRUD */
+    // 해시태그 upsert/연결과 색인 반영은 커밋 후 HashtagOutboxWorker 가 처리한다. (요청 시간이 해시태그 수와 무관하도록)
+    // in-memory 색인/건수도 롤백된 쓰기가 남지 않도록 커밋 후에 반영한다.
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
-
-        Article article = dto.toEntity(userAccount);
-        article.addHashtags(hashtags);
-        articleRepository.save(article);
+        Article savedArticle = articleRepository.save(dto.toEntity(userAccount));
+        Long articleId = savedArticle.getId();
+        String title = savedArticle.getTitle();
+        String content = savedArticle.getContent();
+        AfterCommit.run(() -> {
+            articleSearchIndex.add(articleId, title, content);
+            articleCountService.articleCreated(Set.of());
+        });
+        if (!hashtagService.parseHashtagNames(savedArticle.getContent()).isEmpty()) {
+            hashtagOutboxService.enqueue(savedArticle.getId(), dto.userAccountDto().userId(), Set.of());
+        }
+        renderedPageCache.contentChanged();
     }
 
     // Articles
@@ -50,26 +78,32 @@ public class ArticleService {
     // Article 단건 조회(detail) : with Comments
     @Transactional(readOnly = true)
     public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
-        return articleRepository.findById(articleId).map(ArticleWithCommentsDto::from)
+        return articleRepository.findWithCommentsById(articleId).map(ArticleWithCommentsDto::from)
                 .orElseThrow(()-> new EntityNotFoundException("해당 게시글이 없습니다. articleId: " + articleId));
     }
 
+    // 상세 화면 조건부 GET 용 : 게시글이 없으면 Optional.empty()
+    @Transactional(readOnly = true)
+    public Optional<ArticleVersionDto> getArticleVersion(Long articleId) {
+        return articleRepository.findVersionById(articleId);
+    }
+
     public void updateArticle(Long articleId, ArticleDto dto) {
         try{
             Article article = articleRepository.getReferenceById(articleId);
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
 
             if(article.getUserAccount().equals(userAccount)){
+                String oldTitle = article.getTitle();
+                String oldContent = article.getContent();
                 if(dto.title() != null) {article.setTitle(dto.title());}
                 if(dto.content() != null) {article.setContent(dto.content());}
+                String newTitle = article.getTitle();
+                String newContent = article.getContent();
+                AfterCommit.run(() -> articleSearchIndex.update(articleId, oldTitle, oldContent, newTitle, newContent));
 
-                Set<Long> hashtagIds = article.getHashtags().stream().map(Hashtag::getId)
-                        .collect(Collectors.toUnmodifiableSet());
-                article.clearHashtags();
-                articleRepository.flush();
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
-                Set<Hashtag> hashtags = renewHashtagsFromContent(dto.content());
-                article.addHashtags(hashtags);
+                if(dto.content() != null) {hashtagOutboxService.enqueue(articleId, dto.userAccountDto().userId(), Set.of());}
+                renderedPageCache.contentChanged();
             }
         }catch(EntityNotFoundException e){
             log.warn("게시글 수정을 실패했습니다. 수정하는 데 필요한 정보가 없습니다. {}",e.getLocalizedMessage());
@@ -81,43 +115,132 @@ public class ArticleService {
         Set<Long> hashtagIds = article.getHashtags().stream()
                 .map(Hashtag::getId)
                 .collect(Collectors.toUnmodifiableSet());
+        if (article.getUserAccount().getUserId().equals(userId)) {
+            String title = article.getTitle();
+            String content = article.getContent();
+            Set<String> hashtagNames = hashtagNamesOf(article.getHashtags());
+            AfterCommit.run(() -> {
+                articleSearchIndex.remove(articleId, title, content);
+                articleCountService.articleDeleted(hashtagNames);
+                hashtagPopularityIndex.hashtagsChanged(hashtagNames, Set.of());
+                hashtagPostingIndex.remove(articleId, hashtagNames);
+            });
+            // 떨어져 나간 해시태그 중 쓰이지 않는 것은 커밋 후 삭제
+            if (!hashtagIds.isEmpty()) {hashtagOutboxService.enqueue(articleId, userId, hashtagIds);}
+            renderedPageCache.contentChanged();
+        }
         articleRepository.deleteByIdAndUserAccount_UserId(articleId,userId);
-        articleRepository.flush();
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
     }
 
     /* searching, pagination, sort 관련 */
+    // 목록은 표시 컬럼만 조회하고(ArticleSummaryDto), 전체 건수는 ArticleCountService 의 캐시된 값을 사용한다.
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
-        if(searchType == null || searchKeyword.isEmpty()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if(searchType == null || searchKeyword == null || searchKeyword.isEmpty()) {
+            List<ArticleSummaryDto> articles = articleRepository.findSummariesBySearch(null, null, null, pageable);
+            return new PageImpl<>(articles, pageable, articleCountService.getTotalCount());
         }
-        return switch (searchType){
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(Arrays.stream(searchKeyword.split(" ")).toList(),pageable).map(ArticleDto::from);
+
+        // 해시태그 검색은 posting 색인으로 정확한 id 와 건수를 구하고, 색인으로 답할 수 없으면 DB 조건 검색
+        HashtagQuery hashtagQuery = searchType == SearchType.HASHTAG ? HashtagQuery.parse(searchKeyword) : null;
+        HashtagPostingIndex.Result hashtagResult = hashtagQuery == null ? null : hashtagPostingIndex.search(hashtagQuery).orElse(null);
+        ArticleSearchIndex.Candidates textCandidates = searchType == SearchType.TITLE || searchType == SearchType.CONTENT
+                ? articleSearchIndex.search(searchType, searchKeyword).orElse(null) : null;
+        if (textCandidates != null && textCandidates.count() > MAX_IN_CANDIDATES && isNewestFirst(pageable)) {
+            return searchCandidatesByIdKeyset(searchType, searchKeyword, textCandidates, pageable);
+        }
+        Set<Long> candidateIds = switch (searchType) {
+            // 최신순이 아닌 정렬에서 후보가 너무 많으면 DB 조건 검색
+            case TITLE, CONTENT -> textCandidates == null || textCandidates.count() > MAX_IN_CANDIDATES ? null : textCandidates.toSet();
+            case HASHTAG -> hashtagResult == null ? null : hashtagResult.articleIds();
+            default -> null;
         };
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<ArticleSummaryDto> articles = articleRepository.findSummariesBySearch(searchType, searchKeyword, candidateIds, pageable);
+        long totalCount;
+        if (hashtagResult != null) {
+            totalCount = hashtagResult.count();
+        } else if (hashtagQuery != null && hashtagQuery.singleHashtagName().isPresent()) {
+            totalCount = articleCountService.getHashtagCount(hashtagQuery.singleHashtagName().get());
+        } else {
+            totalCount = articleCountService.getSearchCount(searchType, searchKeyword,
+                    () -> articleRepository.countBySearch(searchType, searchKeyword, candidateIds));
+        }
+        return new PageImpl<>(articles, pageable, totalCount);
+    }
+
+    /*
+     * 후보가 많으면 IN 목록 대신 후보 비트맵을 큰 id 부터 CANDIDATE_CHUNK_SIZE 씩 잘라 DB 에서 검색 조건을 확인한다.
+     * 앞 페이지 분량은 chunk 별 건수만 세어 건너뛰고, 전체 건수는 chunk 별 건수의 합을 ArticleCountService 에 캐시한다.
+     * 최신순(createdAt desc)은 id 역순으로 대신한다. (작성일을 지정해 가져온 게시글만 순서가 다를 수 있다)
+     */
+    private Page<ArticleSummaryDto> searchCandidatesByIdKeyset(SearchType searchType, String searchKeyword,
+                                                               ArticleSearchIndex.Candidates candidates, Pageable pageable) {
+        List<ArticleSummaryDto> articles = new ArrayList<>(pageable.getPageSize());
+        long skip = pageable.getOffset();
+        LongIterator ids = candidates.descendingIds();
+        while (articles.size() < pageable.getPageSize() && ids.hasNext()) {
+            List<Long> chunk = nextChunk(ids);
+            if (skip > 0) {
+                long matched = articleRepository.countBySearch(searchType, searchKeyword, chunk);
+                if (matched <= skip) {
+                    skip -= matched;
+                    continue;
+                }
+            }
+            int limit = (int) skip + pageable.getPageSize() - articles.size();
+            List<ArticleSummaryDto> found = articleRepository.findSummariesBySearch(searchType, searchKeyword, chunk,
+                    PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "id")));
+            articles.addAll(found.subList((int) Math.min(skip, found.size()), found.size()));
+            skip = 0;
+        }
+        long totalCount = articleCountService.getSearchCount(searchType, searchKeyword,
+                () -> countCandidates(searchType, searchKeyword, candidates));
+        return new PageImpl<>(articles, pageable, totalCount);
+    }
+
+    private long countCandidates(SearchType searchType, String searchKeyword, ArticleSearchIndex.Candidates candidates) {
+        long count = 0L;
+        LongIterator ids = candidates.descendingIds();
+        while (ids.hasNext()) {
+            count += articleRepository.countBySearch(searchType, searchKeyword, nextChunk(ids));
+        }
+        return count;
+    }
+
+    private static List<Long> nextChunk(LongIterator ids) {
+        List<Long> chunk = new ArrayList<>(CANDIDATE_CHUNK_SIZE);
+        while (chunk.size() < CANDIDATE_CHUNK_SIZE && ids.hasNext()) {
+            chunk.add(ids.next());
+        }
+        return chunk;
+    }
+
+    private static boolean isNewestFirst(Pageable pageable) {
+        if (pageable.isUnpaged()) {return false;}
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.isEmpty()) {return true;}
+        Sort.Order order = orders.get(0);
+        return orders.size() == 1 && order.isDescending()
+                && (order.getProperty().equals("createdAt") || order.getProperty().equals("id"));
+    }
+
+    // keyset(cursor) 페이지네이션 : offset skip, count 쿼리 없이 다음 페이지 조회
+    @Transactional(readOnly = true)
+    public Slice<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, KeysetCursor cursor, int size) {
+        return articleRepository.findSummariesByCursor(searchType, searchKeyword, cursor, size);
     }
 
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleCountService.getTotalCount();
     }
 
     /* hashtag 관련*/
-    private Set<Hashtag> renewHashtagsFromContent(String content) {
-        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
-        Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
-        Set<String> existingHashtagNames = hashtags.stream()
-                .map(Hashtag::getHashtagName)
-                .collect(Collectors.toUnmodifiableSet());
-
-        hashtagNamesInContent.forEach(newHashtagName -> {
-            if (!existingHashtagNames.contains(newHashtagName)) {
-                hashtags.add(Hashtag.of(newHashtagName));}
-        });
-        return hashtags;
+    private Set<String> hashtagNamesOf(Set<Hashtag> hashtags) {
+        return hashtags.stream().map(Hashtag::getHashtagName).collect(Collectors.toUnmodifiableSet());
     }
 
     @Transactional(readOnly = true)
@@ -125,10 +248,14 @@ public class ArticleService {
         if (hashtagName == null || hashtagName.isBlank()) {
             return Page.empty(pageable);
         }
-        return articleRepository.findByHashtagNames(List.of(hashtagName), pageable).map(ArticleDto::from);
+        List<Article> articles = articleRepository.findBySearch(SearchType.HASHTAG, hashtagName, null, pageable);
+        return new PageImpl<>(articles, pageable, articleCountService.getHashtagCount(hashtagName)).map(ArticleDto::from);
     }
 
     public List<String> getHashtags() {
-        return hashtagRepository.findAllHashtagNames(); // TODO: HashtagService 로 이동을 고려해보자.
+        // 전체 해시태그 대신 게시글 수 상위 해시태그만 (in-memory 색인)
+        return hashtagPopularityIndex.getTopHashtags(HashtagPopularityIndex.MAX_TOP_SIZE).stream()
+                .map(HashtagCountDto::hashtagName)
+                .toList();
     }
 }
@@ -0,0 +1,124 @@
+package com.springboot.board.service;
+
+import com.springboot.board.domain.Article;
+import com.springboot.board.domain.Hashtag;
+import com.springboot.board.domain.HashtagOutbox;
+import com.springboot.board.repository.ArticleRepository;
+import com.springboot.board.repository.HashtagOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * 게시글 해시태그 비동기 정리 (transactional outbox)
+ * 게시글 트랜잭션에서는 HashtagOutbox 행만 쌓고(enqueue), 커밋 후 HashtagOutboxWorker 가 process 로
+ * 해시태그 추출/upsert, article_hashtag 연결/해제, 고아 해시태그 삭제를 한 트랜잭션에서 처리한 뒤 작업 행을 지운다.
+ * 처리는 "현재 본문과 연결된 해시태그의 차이만 반영"이므로 같은 작업을 여러 번 처리해도 결과가 같다.
+ * 같은 게시글의 작업 행이 여럿이어도 게시글 행을 잠가 한 번에 하나씩 처리한다. (차이를 계산하는 동안 다른 작업이 끼어들지 않도록)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class HashtagOutboxService {
+    // 커밋 직후 처리가 끝나지 않은 작업(실패, 서버 종료)은 이 시간 뒤부터 재시도하고, 실패할 때마다 두 배로 늘린다.
+    private static final Duration FIRST_RETRY_DELAY = Duration.ofSeconds(30);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+
+    private final HashtagService hashtagService;
+    private final ArticleRepository articleRepository;
+    private final HashtagOutboxRepository hashtagOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 이벤트는 커밋 후에만 처리되므로 게시글 트랜잭션 안에서만 호출할 수 있다. (트랜잭션 없이 쌓이면 재시도 때까지 처리되지 않음)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long articleId, String userId, Collection<Long> orphanCandidateIds) {
+        HashtagOutbox outbox = hashtagOutboxRepository.save(
+                HashtagOutbox.of(articleId, userId, orphanCandidateIds, LocalDateTime.now().plus(FIRST_RETRY_DELAY)));
+        eventPublisher.publishEvent(new Enqueued(outbox.getId()));
+    }
+
+    // 이미 처리된(지워진) 작업이면 Optional.empty()
+    public Optional<Result> process(Long outboxId) {
+        return hashtagOutboxRepository.findForUpdateById(outboxId).map(outbox -> {
+            Result result = syncHashtags(outbox);
+            hashtagOutboxRepository.delete(outbox);
+            return result;
+        });
+    }
+
+    public void recordFailure(Long outboxId, Exception e) {
+        hashtagOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+            Duration delay = retryDelay(outbox.getAttempts());
+            outbox.failed(e.toString(), LocalDateTime.now().plus(delay));
+            log.warn("해시태그 정리 작업을 실패했습니다. {} 뒤 다시 시도합니다. outbox: {}", delay, outbox, e);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getOutboxIdsToRetry(int batchSize) {
+        return hashtagOutboxRepository.findIdsToRetry(LocalDateTime.now(), PageRequest.ofSize(batchSize));
+    }
+
+    // 본문의 해시태그 변경분만 반영 : 바뀐 게 없으면 article_hashtag 를 건드리지 않는다. 게시글이 없으면 고아 정리만 한다.
+    private Result syncHashtags(HashtagOutbox outbox) {
+        Set<Long> orphanCandidateIds = new HashSet<>(outbox.getOrphanCandidateIdSet());
+        Set<String> removedHashtagNames = Set.of();
+        Set<String> addedHashtagNames = Set.of();
+
+        Optional<Article> found = articleRepository.findForUpdateById(outbox.getArticleId());
+        if (found.isPresent()) {
+            Article article = found.get();
+            Set<String> oldHashtagNames = hashtagNamesOf(article.getHashtags());
+            Set<String> newHashtagNames = hashtagService.parseHashtagNames(article.getContent());
+            if (!newHashtagNames.equals(oldHashtagNames)) {
+                Set<Hashtag> removedHashtags = article.getHashtags().stream()
+                        .filter(hashtag -> !newHashtagNames.contains(hashtag.getHashtagName()))
+                        .collect(Collectors.toUnmodifiableSet());
+                addedHashtagNames = newHashtagNames.stream()
+                        .filter(name -> !oldHashtagNames.contains(name))
+                        .collect(Collectors.toUnmodifiableSet());
+
+                article.removeHashtags(removedHashtags);
+                if (!addedHashtagNames.isEmpty()) {
+                    article.addHashtags(hashtagService.upsertHashtags(addedHashtagNames, outbox.getUserId()));
+                }
+                removedHashtagNames = hashtagNamesOf(removedHashtags);
+                removedHashtags.forEach(hashtag -> orphanCandidateIds.add(hashtag.getId()));
+            }
+        }
+        hashtagService.deleteHashtagsWithoutArticles(orphanCandidateIds);
+        return new Result(outbox.getArticleId(), removedHashtagNames, addedHashtagNames);
+    }
+
+    private static Duration retryDelay(int failedAttempts) {
+        Duration delay = FIRST_RETRY_DELAY.multipliedBy(1L << Math.min(failedAttempts, 16));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+
+    private static Set<String> hashtagNamesOf(Set<Hashtag> hashtags) {
+        return hashtags.stream().map(Hashtag::getHashtagName).collect(Collectors.toUnmodifiableSet());
+    }
+
+    // 게시글 트랜잭션 커밋 후 HashtagOutboxWorker 가 받는 이벤트
+    public record Enqueued(Long outboxId) {}
+
+    public record Result(Long articleId, Set<String> removedHashtagNames, Set<String> addedHashtagNames) {
+        public boolean hasChanges() {
+            return !removedHashtagNames.isEmpty() || !addedHashtagNames.isEmpty();
+        }
+    }
+}
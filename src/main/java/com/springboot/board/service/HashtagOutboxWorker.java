@@ -0,0 +1,54 @@
+package com.springboot.board.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+ * HashtagOutbox 처리기
+ * - 게시글 트랜잭션이 커밋되면 @Async 로 바로 처리한다. (요청 스레드는 해시태그 처리를 기다리지 않는다)
+ * - 실패했거나 커밋 직후 처리되지 못한 작업(서버 종료 등)은 board.hashtag-outbox.retry-delay 마다 다시 처리한다.
+ * 처리 결과(해시태그 변경분)는 커밋된 뒤 in-memory 색인과 화면 캐시에 반영한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class HashtagOutboxWorker {
+    private static final int RETRY_BATCH_SIZE = 100;
+
+    private final HashtagOutboxService hashtagOutboxService;
+    private final ArticleCountService articleCountService;
+    private final HashtagPopularityIndex hashtagPopularityIndex;
+    private final HashtagPostingIndex hashtagPostingIndex;
+    private final RenderedPageCache renderedPageCache;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(HashtagOutboxService.Enqueued event) {
+        process(event.outboxId());
+    }
+
+    @Scheduled(fixedDelayString = "${board.hashtag-outbox.retry-delay:PT10S}", initialDelayString = "${board.hashtag-outbox.retry-delay:PT10S}")
+    public void retry() {
+        hashtagOutboxService.getOutboxIdsToRetry(RETRY_BATCH_SIZE).forEach(this::process);
+    }
+
+    void process(Long outboxId) {
+        HashtagOutboxService.Result result;
+        try {
+            result = hashtagOutboxService.process(outboxId).orElse(null);
+        } catch (RuntimeException e) {
+            hashtagOutboxService.recordFailure(outboxId, e);
+            return;
+        }
+        if (result == null || !result.hasChanges()) {return;}
+
+        articleCountService.hashtagsChanged(result.removedHashtagNames(), result.addedHashtagNames());
+        hashtagPopularityIndex.hashtagsChanged(result.removedHashtagNames(), result.addedHashtagNames());
+        hashtagPostingIndex.remove(result.articleId(), result.removedHashtagNames());
+        hashtagPostingIndex.add(result.articleId(), result.addedHashtagNames());
+        renderedPageCache.contentChanged();
+    }
+}
@@ -0,0 +1,254 @@
+package com.springboot.board.service;
+
+import com.springboot.board.dto.HashtagCountDto;
+import com.springboot.board.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 해시태그 -> 게시글 수 in-memory 색인.
+ * 시작 시 DB 에서 한 번 읽고, 이후 게시글 저장/수정/삭제 때마다 증감한다. 오차 보정을 위해 주기적으로 다시 읽는다.
+ * - 인기 해시태그 top-N : 변경이 있을 때만, 최대 REBUILD_INTERVAL 에 한 번 다시 계산한 스냅샷을 돌려준다.
+ * - 접두어 자동완성 : 이름순 정렬 배열 스냅샷에서 이진 탐색으로 접두어 구간을 찾아 게시글 수 순으로 돌려준다.
+ *   스냅샷은 맵과 같은 AtomicLong 을 공유하므로 건수 증감은 바로 보이고, 새로 생긴 이름만 pendingNames 에 모아뒀다가
+ *   최대 REBUILD_INTERVAL 에 한 번 O(n) 으로 다시 만든다. 구간이 넓은 짧은 접두어는 결과를 REBUILD_INTERVAL 동안 캐시한다.
+ * 적재(DB 조회)/재생성은 synchronized 대신 ReentrantLock 으로 묶는다. (가상 스레드가 모니터 안에서 JDBC 를 기다리면 carrier 스레드까지 묶이므로)
+ * 증감은 deltaLock 안에서 반영하고, 다시 읽는 동안 들어온 증감은 모아뒀다가 새로 읽은 건수에 반영한 뒤 바꿔 끼운다.
+ * (증감은 커밋 후에 들어오므로 DB 를 읽기 시작한 뒤 커밋된 변경은 빠지지 않는다. 읽기 직전 커밋되어 아직 반영 중이던 증감만
+ *  두 번 셀 수 있는데, 이 오차는 다음 재적재에서 바로잡힌다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagPopularityIndex {
+    public static final int MAX_TOP_SIZE = 100;
+    public static final int MAX_SUGGESTION_SIZE = 20;
+    private static final int BROAD_PREFIX_RANGE_SIZE = 1_024;
+    private static final Duration RESYNC_INTERVAL = Duration.ofMinutes(10);
+    private static final Duration REBUILD_INTERVAL = Duration.ofSeconds(1);
+    private static final Comparator<HashtagCountDto> POPULARITY_ORDER =
+            Comparator.comparingLong(HashtagCountDto::articleCount).reversed()
+                    .thenComparing(HashtagCountDto::hashtagName);
+
+    private final HashtagRepository hashtagRepository;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock deltaLock = new ReentrantLock();
+    private List<Delta> deltasWhileLoading;
+
+    private volatile ConcurrentNavigableMap<String, AtomicLong> counts = new ConcurrentSkipListMap<>();
+    private volatile long loadedAt;
+    private volatile boolean loaded = false;
+
+    private volatile List<HashtagCountDto> topHashtags = List.of();
+    private volatile long topBuiltAt;
+    private volatile boolean topBuilt = false;
+    private volatile boolean topDirty = true;
+
+    private volatile PrefixSnapshot prefixSnapshot = PrefixSnapshot.EMPTY;
+    private final NavigableSet<String> pendingNames = new ConcurrentSkipListSet<>();
+    private final Map<String, CachedSuggestions> broadPrefixCache = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.lock();
+        try {
+            withDeltaLock(() -> deltasWhileLoading = new ArrayList<>());
+            ConcurrentNavigableMap<String, AtomicLong> loadedCounts = new ConcurrentSkipListMap<>();
+            try {
+                hashtagRepository.findHashtagCounts()
+                        .forEach(row -> loadedCounts.put(row.hashtagName(), new AtomicLong(row.articleCount())));
+            } catch (RuntimeException e) {
+                // 모아둔 증감은 기존 건수에 반영하고 다음 적재 때 다시 시도한다.
+                withDeltaLock(() -> {
+                    if (loaded) {deltasWhileLoading.forEach(delta -> apply(counts, delta));}
+                    deltasWhileLoading = null;
+                });
+                throw e;
+            }
+            withDeltaLock(() -> {
+                deltasWhileLoading.forEach(delta -> apply(loadedCounts, delta));
+                deltasWhileLoading = null;
+                counts = loadedCounts;
+                pendingNames.clear();
+                prefixSnapshot = PrefixSnapshot.of(loadedCounts);
+                broadPrefixCache.clear();
+                loadedAt = System.nanoTime();
+                loaded = true;
+                topBuilt = false;
+                topDirty = true;
+            });
+            log.info("해시태그 인기 색인 적재 완료. hashtags: {}", loadedCounts.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<HashtagCountDto> getTopHashtags(int limit) {
+        ensureFresh();
+        if (topDirty && (!topBuilt || System.nanoTime() - topBuiltAt > REBUILD_INTERVAL.toNanos())) {
+            topDirty = false;
+            topBuiltAt = System.nanoTime();
+            topHashtags = selectTop(counts, MAX_TOP_SIZE);
+            topBuilt = true;
+        }
+        List<HashtagCountDto> snapshot = topHashtags;
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    public List<HashtagCountDto> getHashtagsByPrefix(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {return List.of();}
+        ensureFresh();
+        PrefixSnapshot snapshot = currentPrefixSnapshot();
+        String from = prefix.strip().toLowerCase(Locale.ROOT);
+        String to = from + Character.MAX_VALUE;
+        int start = snapshot.lowerBound(from);
+        int end = snapshot.lowerBound(to);
+        int size = Math.min(limit, MAX_SUGGESTION_SIZE);
+
+        if (end - start > BROAD_PREFIX_RANGE_SIZE) {
+            CachedSuggestions cached = broadPrefixCache.get(from);
+            if (cached == null || System.nanoTime() - cached.builtAt() > REBUILD_INTERVAL.toNanos()) {
+                cached = new CachedSuggestions(suggest(snapshot, start, end, from, to), System.nanoTime());
+                broadPrefixCache.put(from, cached);
+            }
+            return cached.suggestions().subList(0, Math.min(size, cached.suggestions().size()));
+        }
+        List<HashtagCountDto> suggestions = suggest(snapshot, start, end, from, to);
+        return suggestions.subList(0, Math.min(size, suggestions.size()));
+    }
+
+    /* 쓰기(커밋 후) 시 증감 : 적재 중이면 모아뒀다가 새로 읽은 건수에 반영하고, 처음 적재 전의 변경은 적재 때 DB 에서 함께 읽히므로 무시한다. */
+    public void hashtagsChanged(Collection<String> removedHashtagNames, Collection<String> addedHashtagNames) {
+        if (removedHashtagNames.isEmpty() && addedHashtagNames.isEmpty()) {return;}
+        Delta delta = new Delta(List.copyOf(removedHashtagNames), List.copyOf(addedHashtagNames));
+        withDeltaLock(() -> {
+            if (deltasWhileLoading != null) {
+                deltasWhileLoading.add(delta);
+            } else if (loaded) {
+                apply(counts, delta);
+                topDirty = true;
+            }
+        });
+    }
+
+    private void apply(ConcurrentNavigableMap<String, AtomicLong> target, Delta delta) {
+        delta.removedHashtagNames().forEach(hashtagName -> target.computeIfPresent(hashtagName,
+                (k, count) -> count.decrementAndGet() > 0 ? count : null));
+        delta.addedHashtagNames().forEach(hashtagName -> {
+            AtomicLong count = target.get(hashtagName);
+            if (count == null) {
+                count = target.computeIfAbsent(hashtagName, k -> new AtomicLong());
+                pendingNames.add(hashtagName);
+            }
+            count.incrementAndGet();
+        });
+    }
+
+    private void withDeltaLock(Runnable action) {
+        deltaLock.lock();
+        try {
+            action.run();
+        } finally {
+            deltaLock.unlock();
+        }
+    }
+
+    private void ensureFresh() {
+        if (!loaded || System.nanoTime() - loadedAt > RESYNC_INTERVAL.toNanos()) {
+            lock.lock();
+            try {
+                if (!loaded || System.nanoTime() - loadedAt > RESYNC_INTERVAL.toNanos()) {load();}
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 새 이름이 쌓였으면 스냅샷을 다시 만든다. 적재/재생성 사이에 추가된 이름은 pendingNames 에 남는다.
+    private PrefixSnapshot currentPrefixSnapshot() {
+        PrefixSnapshot snapshot = prefixSnapshot;
+        if (pendingNames.isEmpty() || System.nanoTime() - snapshot.builtAt() <= REBUILD_INTERVAL.toNanos()) {return snapshot;}
+        lock.lock();
+        try {
+            if (prefixSnapshot != snapshot) {return prefixSnapshot;}
+            List<String> drainedNames = new ArrayList<>(pendingNames);
+            prefixSnapshot = PrefixSnapshot.of(counts);
+            pendingNames.removeAll(drainedNames);
+            broadPrefixCache.clear();
+            return prefixSnapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<HashtagCountDto> suggest(PrefixSnapshot snapshot, int start, int end, String from, String to) {
+        Map<String, AtomicLong> matches = new HashMap<>();
+        for (int i = start; i < end; i++) {
+            matches.put(snapshot.names()[i], snapshot.counts()[i]);
+        }
+        // 삭제 후 다시 생긴 이름은 스냅샷의 (0 이 된) 건수 대신 맵의 건수를 쓴다.
+        ConcurrentNavigableMap<String, AtomicLong> current = counts;
+        for (String hashtagName : pendingNames.subSet(from, to)) {
+            AtomicLong count = current.get(hashtagName);
+            if (count != null) {matches.put(hashtagName, count);}
+        }
+        return selectTop(matches, MAX_SUGGESTION_SIZE);
+    }
+
+    // 크기 limit 의 min-heap 으로 상위 limit 개만 남긴다 : O(n log limit)
+    private static List<HashtagCountDto> selectTop(Map<String, AtomicLong> source, int limit) {
+        PriorityQueue<HashtagCountDto> heap = new PriorityQueue<>(limit + 1, POPULARITY_ORDER.reversed());
+        source.forEach((hashtagName, count) -> {
+            long articleCount = count.get();
+            if (articleCount <= 0) {return;}
+            heap.offer(HashtagCountDto.of(hashtagName, articleCount));
+            if (heap.size() > limit) {heap.poll();}
+        });
+        List<HashtagCountDto> top = new ArrayList<>(heap);
+        top.sort(POPULARITY_ORDER);
+        return List.copyOf(top);
+    }
+
+    private record PrefixSnapshot(String[] names, AtomicLong[] counts, long builtAt) {
+        static final PrefixSnapshot EMPTY = new PrefixSnapshot(new String[0], new AtomicLong[0], System.nanoTime());
+
+        static PrefixSnapshot of(NavigableMap<String, AtomicLong> source) {
+            String[] names = new String[source.size()];
+            AtomicLong[] counts = new AtomicLong[names.length];
+            int size = 0;
+            for (Map.Entry<String, AtomicLong> entry : source.entrySet()) {
+                if (size == names.length) {break;}
+                names[size] = entry.getKey();
+                counts[size++] = entry.getValue();
+            }
+            return new PrefixSnapshot(Arrays.copyOf(names, size), Arrays.copyOf(counts, size), System.nanoTime());
+        }
+
+        // key 이상인 첫 위치
+        int lowerBound(String key) {
+            int low = 0;
+            int high = names.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (names[mid].compareTo(key) < 0) {low = mid + 1;} else {high = mid;}
+            }
+            return low;
+        }
+    }
+
+    private record Delta(List<String> removedHashtagNames, List<String> addedHashtagNames) {}
+
+    private record CachedSuggestions(List<HashtagCountDto> suggestions, long builtAt) {}
+}
@@ -0,0 +1,140 @@
+package com.springboot.board.service;
+
+import com.springboot.board.dto.ArticleHashtagDto;
+import com.springboot.board.dto.HashtagQuery;
+import com.springboot.board.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 해시태그 -> 게시글 id posting list (압축 비트맵) in-memory 색인.
+ * 해시태그 검색어(HashtagQuery)의 AND/OR/NOT 을 비트맵 교집합/합집합/차집합으로 계산해
+ * 중복 없는 정확한 게시글 id 와 건수를 돌려준다. 목록 조회 자체는 DB 에서 id 조건으로 수행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagPostingIndex {
+    public static final int MAX_CANDIDATES = 10_000;
+    private static final int LOADING_CHUNK_SIZE = 1_000;
+
+    private final ArticleRepository articleRepository;
+
+    // Roaring64Bitmap 은 동시 읽기/쓰기에 안전하지 않으므로 색인 전체를 read/write lock 으로 보호한다. (쓰기는 게시글 단위로 짧다)
+    private final Map<String, Roaring64Bitmap> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Long lastArticleId = null;
+        Long lastHashtagId = null;
+        List<ArticleHashtagDto> chunk;
+        do {
+            chunk = articleRepository.findArticleHashtags(lastArticleId, lastHashtagId, LOADING_CHUNK_SIZE);
+            lock.writeLock().lock();
+            try {
+                for (ArticleHashtagDto row : chunk) {
+                    postings.computeIfAbsent(row.hashtagName(), k -> new Roaring64Bitmap()).addLong(row.articleId());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!chunk.isEmpty()) {
+                ArticleHashtagDto last = chunk.get(chunk.size() - 1);
+                lastArticleId = last.articleId();
+                lastHashtagId = last.hashtagId();
+            }
+        } while (chunk.size() == LOADING_CHUNK_SIZE);
+        loaded = true;
+        log.info("해시태그 posting 색인 적재 완료. hashtags: {}", postings.size());
+    }
+
+    public void add(Long articleId, Collection<String> hashtagNames) {
+        if (articleId == null || hashtagNames.isEmpty()) {return;}
+        lock.writeLock().lock();
+        try {
+            hashtagNames.forEach(hashtagName -> postings.computeIfAbsent(hashtagName, k -> new Roaring64Bitmap()).addLong(articleId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long articleId, Collection<String> hashtagNames) {
+        if (articleId == null || hashtagNames.isEmpty()) {return;}
+        lock.writeLock().lock();
+        try {
+            hashtagNames.forEach(hashtagName -> postings.computeIfPresent(hashtagName, (k, posting) -> {
+                posting.removeLong(articleId);
+                return posting.isEmpty() ? null : posting;
+            }));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * 검색어에 맞는 게시글 건수와 id 를 돌려준다. id 가 MAX_CANDIDATES 보다 많으면 건수만 돌려준다. (articleIds = null)
+     * 색인으로 답할 수 없는 검색어(적재 전, 제외 조건만 있는 경우)는 Optional.empty() 를 돌려주며,
+     * 이 때 호출자는 DB 검색으로 처리해야 한다.
+     */
+    public Optional<Result> search(HashtagQuery hashtagQuery) {
+        if (!loaded || hashtagQuery.isEmpty() || hashtagQuery.hasOnlyExclusions()) {return Optional.empty();}
+
+        Roaring64Bitmap matched;
+        lock.readLock().lock();
+        try {
+            matched = evaluate(hashtagQuery);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long count = matched.getLongCardinality();
+        if (count > MAX_CANDIDATES) {return Optional.of(new Result(count, null));}
+        Set<Long> articleIds = new HashSet<>((int) (count / 0.75f) + 1);
+        matched.forEach(articleIds::add);
+        return Optional.of(new Result(count, Collections.unmodifiableSet(articleIds)));
+    }
+
+    // 작은 posting 부터 교집합을 구해 중간 결과를 줄인다. 결과는 항상 새 비트맵이다.
+    private Roaring64Bitmap evaluate(HashtagQuery hashtagQuery) {
+        List<Roaring64Bitmap> required = new ArrayList<>(hashtagQuery.allOf().size());
+        for (String hashtagName : hashtagQuery.allOf()) {
+            Roaring64Bitmap posting = postings.get(hashtagName);
+            if (posting == null) {return new Roaring64Bitmap();}
+            required.add(posting);
+        }
+        required.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+
+        Roaring64Bitmap matched = null;
+        for (Roaring64Bitmap posting : required) {
+            if (matched == null) {matched = posting.clone();} else {matched.and(posting);}
+            if (matched.isEmpty()) {return matched;}
+        }
+
+        if (!hashtagQuery.anyOf().isEmpty()) {
+            Roaring64Bitmap union = new Roaring64Bitmap();
+            hashtagQuery.anyOf().forEach(hashtagName -> {
+                Roaring64Bitmap posting = postings.get(hashtagName);
+                if (posting != null) {union.or(posting);}
+            });
+            if (matched == null) {matched = union;} else {matched.and(union);}
+        }
+
+        for (String hashtagName : hashtagQuery.noneOf()) {
+            Roaring64Bitmap posting = postings.get(hashtagName);
+            if (posting != null) {matched.andNot(posting);}
+        }
+        return matched;
+    }
+
+    public record Result(long count, Set<Long> articleIds) {}
+}
@@ -3,13 +3,18 @@ package com.springboot.board.service;
 import com.springboot.board.domain.Hashtag;
 import com.springboot.board.repository.HashtagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Transactional
 @RequiredArgsConstructor
@@ -19,14 +24,47 @@ public class HashtagService {
 
     public Set<String> parseHashtagNames(String content) {
         if(content == null){return Set.of();}
-        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
-        Matcher matcher = pattern.matcher(content.strip());
         Set<String> result = new HashSet<>();
+        parseHashtagNames(content, result::add);
+        return result.isEmpty() ? Set.of() : Collections.unmodifiableSet(result);
+    }
+
+    /*
+     * 정규식 "#[\\w가-힣]+" 와 같은 규칙의 해시태그 스캐너 (\\w = [A-Za-z0-9_])
+     * 찾은 순서대로 소문자(ASCII) 해시태그 이름을 consumer 에 넘긴다. 중복은 걸러내지 않으므로 대량 처리 시 호출자가 모아서 사용한다.
+     */
+    public static void parseHashtagNames(CharSequence content, Consumer<String> consumer) {
+        if(content == null){return;}
+        int length = content.length();
+        int i = 0;
+        while (i < length) {
+            if (content.charAt(i++) != '#') {continue;}
+
+            int start = i;
+            boolean hasUpperCase = false;
+            while (i < length) {
+                char c = content.charAt(i);
+                if (c >= 'A' && c <= 'Z') {hasUpperCase = true;}
+                else if (!isHashtagChar(c)) {break;}
+                i++;
+            }
+            if (i > start) {consumer.accept(hashtagName(content, start, i, hasUpperCase));}
+        }
+    }
+
+    private static boolean isHashtagChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || (c >= '가' && c <= '힣');
+    }
 
-        while (matcher.find()) {
-            result.add(matcher.group().replace("#", "").toLowerCase());
+    // 대문자는 ASCII 에만 있으므로 Locale 과 무관하게 직접 소문자로 바꾼다.
+    private static String hashtagName(CharSequence content, int start, int end, boolean hasUpperCase) {
+        if (!hasUpperCase) {return content.subSequence(start, end).toString();}
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            char c = content.charAt(i);
+            chars[i - start] = (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
         }
-        return Set.copyOf(result);
+        return new String(chars);
     }
 
     @Transactional(readOnly = true)
@@ -34,10 +72,42 @@ public class HashtagService {
         return  new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
     }
 
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
-        if (hashtag.getArticles().isEmpty()) {
-            hashtagRepository.delete(hashtag);
-        }
+    /*
+     * 게시글에 쓰이고 있는 해시태그 이름을 이름순으로 흘려보낸다. (export, 색인 재구성용)
+     * chunkSize 개씩 keyset 으로 조회하며, 다음 chunk 는 앞 chunk 를 다 소비했을 때 조회한다.
+     * chunk 마다 각각의 트랜잭션으로 조회하므로 전체가 한 시점의 스냅샷은 아니다. (흘려보내는 중 추가/삭제된 이름은 빠지거나 포함될 수 있다)
+     * 뒤 chunk 는 메서드가 끝난 뒤 조회되므로 이 메서드에서 트랜잭션을 열지 않는다. (호출자의 트랜잭션이 있으면 그 안에서 조회)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Stream<String> streamHashtagNamesInUse(int chunkSize) {
+        return Stream.iterate(
+                        hashtagRepository.findHashtagNamesInUse(null, chunkSize),
+                        chunk -> !chunk.isEmpty(),
+                        chunk -> chunk.size() < chunkSize
+                                ? List.<String>of()
+                                : hashtagRepository.findHashtagNamesInUse(chunk.get(chunk.size() - 1), chunkSize))
+                .flatMap(List::stream);
+    }
+
+    // 본문의 해시태그를 없으면 만들고, 있으면 그대로 조회
+    // 이름 조회는 쿼리 캐시를 타므로 모두 있으면 DB 를 거의 거치지 않고, 없는 이름이 있으면 upsert 1회 + select 1회로 전체를 다시 읽는다.
+    public Set<Hashtag> upsertHashtags(Set<String> hashtagNames, String userId) {
+        if (hashtagNames.isEmpty()) {return new HashSet<>();}
+        List<Hashtag> hashtags = hashtagRepository.findByHashtagNameIn(hashtagNames);
+        if (hashtags.size() == hashtagNames.size()) {return new HashSet<>(hashtags);}
+        return new HashSet<>(hashtagRepository.upsertHashtags(hashtagNames, userId));
+    }
+
+    // 게시글 수정/삭제로 떨어져 나간 해시태그 중 더 이상 쓰이지 않는 것을 삭제 (delete 1회)
+    public void deleteHashtagsWithoutArticles(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {return;}
+        hashtagRepository.deleteByIdInAndArticlesIsEmpty(hashtagIds);
+    }
+
+    // 백그라운드 정리 : 쓰이지 않는 해시태그를 batchSize 개까지 삭제하고 삭제한 수를 반환
+    public int sweepHashtagsWithoutArticles(int batchSize) {
+        List<Long> hashtagIds = hashtagRepository.findIdsWithoutArticles(PageRequest.ofSize(batchSize));
+        if (hashtagIds.isEmpty()) {return 0;}
+        return hashtagRepository.deleteByIdInAndArticlesIsEmpty(hashtagIds);
     }
 }
@@ -0,0 +1,38 @@
+package com.springboot.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 쓰이지 않는 해시태그 백그라운드 정리 (board.hashtag-sweeper.enabled=true 일 때만 동작)
+ * 요청 처리 중 정리가 누락된 해시태그를 batchSize 개씩 나눠 각각의 트랜잭션으로 삭제한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.hashtag-sweeper.enabled", havingValue = "true")
+@Component
+public class HashtagSweeper {
+    private static final int MAX_BATCHES_PER_RUN = 100;
+
+    private final HashtagService hashtagService;
+
+    @Value("${board.hashtag-sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${board.hashtag-sweeper.fixed-delay:PT10M}", initialDelayString = "${board.hashtag-sweeper.fixed-delay:PT10M}")
+    public void sweep() {
+        int deletedCount = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            int deleted = hashtagService.sweepHashtagsWithoutArticles(batchSize);
+            deletedCount += deleted;
+            if (deleted < batchSize) {break;}
+        }
+        if (deletedCount > 0) {
+            log.info("쓰이지 않는 해시태그를 정리했습니다. count: {}", deletedCount);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.springboot.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 비로그인 사용자에게 보여주는 게시판 화면의 렌더링 결과(HTML) 캐시.
+ * 키에 콘텐츠 버전을 포함하고, 게시글/댓글 쓰기가 커밋되면 버전을 올려 이전 결과를 한 번에 무효화한다.
+ * 커밋 전에 버전을 올리면 옛 데이터로 렌더링한 결과가 새 버전으로 저장될 수 있으므로 반드시 커밋 후에 올린다.
+ * 키는 화면이 읽는 파라미터만으로 만들고(임의의 쿼리스트링으로 항목을 늘릴 수 없도록), 항목 수는 Caffeine 으로 제한한다.
+ */
+@Component
+public class RenderedPageCache {
+    private static final int MAX_PAGE_ENTRIES = 1_000;
+    // 게시판 화면(ArticleController)이 읽는 요청 파라미터
+    private static final List<String> RENDERED_PARAMETERS = List.of("page", "size", "sort", "searchType", "searchValue", "cursor");
+
+    private final AtomicLong version = new AtomicLong();
+    // 가득 차면 전체를 비우는 대신 덜 쓰이는 항목부터 내보낸다.
+    private final Cache<Key, Page> pages = Caffeine.newBuilder().maximumSize(MAX_PAGE_ENTRIES).build();
+
+    public long currentVersion() {
+        return version.get();
+    }
+
+    public Page get(Key key) {
+        return key.version() == version.get() ? pages.getIfPresent(key) : null;
+    }
+
+    // 렌더링 도중 버전이 바뀌었으면 이미 옛 결과이므로 저장하지 않는다.
+    public Page put(Key key, String contentType, byte[] body) {
+        Page page = Page.of(contentType, body);
+        if (key.version() != version.get()) {return page;}
+        pages.put(key, page);
+        return page;
+    }
+
+    /* 게시글/댓글 쓰기 : 트랜잭션 안이면 커밋 후에, 아니면 바로 버전을 올린다. */
+    public void contentChanged() {
+        AfterCommit.run(this::invalidate);
+    }
+
+    private void invalidate() {
+        version.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    public record Key(String uri, String parameters, long version) {
+        // 화면이 읽는 파라미터만 정해진 순서로 남긴다. (sort 처럼 여러 번 오는 값은 순서 유지)
+        public static Key of(String uri, Map<String, String[]> parameterMap, long version) {
+            StringJoiner parameters = new StringJoiner("&");
+            for (String name : RENDERED_PARAMETERS) {
+                String[] values = parameterMap.get(name);
+                if (values == null) {continue;}
+                for (String value : values) {
+                    parameters.add(name + '=' + URLEncoder.encode(value, StandardCharsets.UTF_8));
+                }
+            }
+            return new Key(uri, parameters.toString(), version);
+        }
+    }
+
+    // ETag 는 본문 해시로 만들어 서버가 여러 대여도 같은 화면이면 같은 값이 된다. (ShallowEtagHeaderFilter 와 같은 형식)
+    public record Page(String contentType, byte[] body, String eTag) {
+        public static Page of(String contentType, byte[] body) {
+            return new Page(contentType, body, "\"0" + DigestUtils.md5DigestAsHex(body) + '"');
+        }
+    }
+}
@@ -1,26 +1,56 @@
 package com.springboot.board.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.springboot.board.domain.UserAccount;
 import com.springboot.board.dto.UserAccountDto;
+import com.springboot.board.dto.security.BoardPrincipal;
 import com.springboot.board.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.Optional;
 
 @Transactional
 @Service
 @RequiredArgsConstructor
 public class UserAccountService {
+    private static final Duration PRINCIPAL_TTL = Duration.ofMinutes(10);
+    private static final int MAX_PRINCIPAL_ENTRIES = 10_000;
+
     private final UserAccountRepository userAccountRepository;
 
+    // 로그인(form, OAuth2) 때마다 조회하는 인증 정보 캐시. 가득 차면 잘 쓰이지 않는 것부터 하나씩 내보낸다.
+    // saveUser 가 커밋되면 갱신하고, 없는 회원은 캐시하지 않는다.
+    private final Cache<String, BoardPrincipal> principals = Caffeine.newBuilder()
+            .maximumSize(MAX_PRINCIPAL_ENTRIES)
+            .expireAfterWrite(PRINCIPAL_TTL)
+            .build();
+
     @Transactional(readOnly = true)
     public Optional<UserAccountDto> searchUser(String username){
         return userAccountRepository.findById(username).map(UserAccountDto::from);
     }
 
+    // 캐시 적중 시 트랜잭션/DB 를 거치지 않도록 SUPPORTS. 캐시에 없으면 repository 의 읽기 전용 트랜잭션으로 조회한다.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<BoardPrincipal> searchPrincipal(String username) {
+        BoardPrincipal cached = principals.getIfPresent(username);
+        if (cached != null) {return Optional.of(cached);}
+
+        Optional<BoardPrincipal> principal = userAccountRepository.findById(username).map(UserAccountDto::from).map(BoardPrincipal::from);
+        principal.ifPresent(found -> principals.put(username, found));
+        return principal;
+    }
+
+    // 롤백된 가입 정보가 캐시에 남아 로그인되지 않도록 커밋 후에 캐시한다.
     public UserAccountDto saveUser(String username, String password, String email, String nickname, String memo){
-        return UserAccountDto.from(userAccountRepository.save(UserAccount.of(username,password,email,nickname, memo, username)));
+        UserAccountDto savedUser = UserAccountDto.from(userAccountRepository.save(UserAccount.of(username,password,email,nickname, memo, username)));
+        BoardPrincipal principal = BoardPrincipal.from(savedUser);
+        AfterCommit.run(() -> principals.put(principal.username(), principal));
+        return savedUser;
     }
 }
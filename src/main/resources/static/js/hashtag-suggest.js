@@ -0,0 +1,28 @@
+// 해시태그 입력 시 /api/hashtags/suggest 로 자동완성 목록을 채운다.
+document.addEventListener('DOMContentLoaded', () => {
+    const input = document.getElementById('hashtag-search-value');
+    const datalist = document.getElementById('hashtag-suggestions');
+    if (!input || !datalist) {
+        return;
+    }
+
+    let timer = null;
+    input.addEventListener('input', () => {
+        clearTimeout(timer);
+        const prefix = input.value.trim().replace(/^#/, '');
+        if (!prefix) {
+            datalist.replaceChildren();
+            return;
+        }
+        timer = setTimeout(() => {
+            fetch('/api/hashtags/suggest?prefix=' + encodeURIComponent(prefix))
+                .then(response => response.ok ? response.json() : [])
+                .then(suggestions => datalist.replaceChildren(...suggestions.map(suggestion => {
+                    const option = document.createElement('option');
+                    option.value = suggestion.hashtagName;
+                    option.label = '#' + suggestion.hashtagName + ' (' + suggestion.articleCount + ')';
+                    return option;
+                })));
+        }, 150);
+    });
+});
@@ -0,0 +1,76 @@
+package com.springboot.board.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("커넥션 획득 수 제한 DataSource")
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+    @Mock
+    private DataSource targetDataSource;
+    @Mock
+    private Connection targetConnection;
+
+    @DisplayName("자리가 있으면 -> 커넥션을 주고, 닫으면 자리를 돌려줌")
+    @Test
+    void givenFreePermit_whenGettingConnection_thenReturnsConnectionAndReleasesOnClose() throws SQLException {
+        ConnectionLimitingDataSource sut = new ConnectionLimitingDataSource(targetDataSource, 1, Duration.ofMillis(50));
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+
+        Connection first = sut.getConnection();
+        first.close();
+        Connection second = sut.getConnection();
+
+        then(targetConnection).should().close();
+        assertThat(second).isNotNull();
+    }
+
+    @DisplayName("자리가 없으면 -> 기다리다가 SQLTransientConnectionException, 풀에는 요청하지 않음")
+    @Test
+    void givenAllPermitsInUse_whenGettingConnection_thenFailsFast() throws SQLException {
+        ConnectionLimitingDataSource sut = new ConnectionLimitingDataSource(targetDataSource, 1, Duration.ofMillis(50));
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+        sut.getConnection();
+
+        assertThatThrownBy(sut::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        then(targetDataSource).should(times(1)).getConnection();
+    }
+
+    @DisplayName("같은 커넥션을 여러 번 닫아도 -> 자리는 한 번만 돌려줌")
+    @Test
+    void givenClosedConnection_whenClosingAgain_thenReleasesPermitOnce() throws SQLException {
+        ConnectionLimitingDataSource sut = new ConnectionLimitingDataSource(targetDataSource, 1, Duration.ofMillis(50));
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+
+        Connection connection = sut.getConnection();
+        connection.close();
+        connection.close();
+        sut.getConnection();
+
+        assertThatThrownBy(sut::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @DisplayName("풀에서 커넥션을 받지 못하면 -> 자리를 돌려줌")
+    @Test
+    void givenPoolFailure_whenGettingConnection_thenReleasesPermit() throws SQLException {
+        ConnectionLimitingDataSource sut = new ConnectionLimitingDataSource(targetDataSource, 1, Duration.ofMillis(50));
+        given(targetDataSource.getConnection())
+                .willThrow(new SQLTransientConnectionException("pool timeout"))
+                .willReturn(targetConnection);
+
+        assertThatThrownBy(sut::getConnection).hasMessage("pool timeout");
+        assertThat(sut.getConnection()).isNotNull();
+    }
+}
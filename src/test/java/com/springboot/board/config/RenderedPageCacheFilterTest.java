@@ -0,0 +1,105 @@
+package com.springboot.board.config;
+
+import com.springboot.board.service.RenderedPageCache;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("렌더링 결과 캐시 필터")
+class RenderedPageCacheFilterTest {
+    private final RenderedPageCache renderedPageCache = new RenderedPageCache();
+    private final RenderedPageCacheFilter sut = new RenderedPageCacheFilter(renderedPageCache);
+    private final AtomicInteger renderCount = new AtomicInteger();
+    private final FilterChain renderingChain = (request, response) -> {
+        renderCount.incrementAndGet();
+        response.setContentType("text/html;charset=UTF-8");
+        response.getOutputStream().write(("<table>" + renderCount.get() + "</table>").getBytes(StandardCharsets.UTF_8));
+    };
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("비로그인 GET -> 두 번째 요청부터 렌더링 없이 캐시된 HTML 과 ETag")
+    @Test
+    void givenAnonymousRequest_whenRequestingTwice_thenServesCachedPage() throws Exception {
+        MockHttpServletResponse first = request("/articles", "page=1", null);
+        MockHttpServletResponse second = request("/articles", "page=1", null);
+
+        assertThat(renderCount).hasValue(1);
+        assertThat(second.getContentAsString()).isEqualTo("<table>1</table>");
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isNotBlank().isEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(second.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, public");
+    }
+
+    @DisplayName("화면이 읽지 않는 쿼리 파라미터 -> 같은 캐시 항목, 화면이 읽는 파라미터가 다르면 다른 항목")
+    @Test
+    void givenUnrelatedQueryParameters_whenRequesting_thenSharesCachedPage() throws Exception {
+        request("/articles", "page=1&sort=title,asc", null);
+        request("/articles", "x=random&sort=title,asc&page=1", null);
+        request("/articles", "page=1&sort=title,desc", null);
+
+        assertThat(renderCount).hasValue(2);
+    }
+
+    @DisplayName("If-None-Match 가 ETag 와 같으면 -> 본문 없이 304")
+    @Test
+    void givenMatchingIfNoneMatch_whenRequesting_thenReturnsNotModified() throws Exception {
+        String eTag = request("/articles", null, null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = request("/articles", null, eTag);
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(renderCount).hasValue(1);
+    }
+
+    @DisplayName("게시글/댓글 쓰기 -> 버전이 올라 다시 렌더링하고 ETag 도 바뀜")
+    @Test
+    void givenContentChanged_whenRequesting_thenRendersAgain() throws Exception {
+        String eTag = request("/articles", null, null).getHeader(HttpHeaders.ETAG);
+
+        renderedPageCache.contentChanged();
+        MockHttpServletResponse response = request("/articles", null, eTag);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("<table>2</table>");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @DisplayName("로그인 사용자 -> 캐시하지 않음")
+    @Test
+    void givenAuthenticatedUser_whenRequesting_thenAlwaysRenders() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("MJ", null, "ROLE_USER"));
+
+        request("/articles", null, null);
+        MockHttpServletResponse response = request("/articles", null, null);
+        assertThat(renderCount).hasValue(2);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private MockHttpServletResponse request(String uri, String queryString, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString(queryString);
+        if (queryString != null) {
+            for (String parameter : queryString.split("&")) {
+                String[] nameAndValue = parameter.split("=", 2);
+                request.addParameter(nameAndValue[0], nameAndValue.length > 1 ? nameAndValue[1] : "");
+            }
+        }
+        if (ifNoneMatch != null) {request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);}
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, renderingChain);
+        return response;
+    }
+}
@@ -1,6 +1,7 @@
 package com.springboot.board.config;
 
 import com.springboot.board.dto.UserAccountDto;
+import com.springboot.board.dto.security.BoardPrincipal;
 import com.springboot.board.service.UserAccountService;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
@@ -18,6 +19,7 @@ public class TestSecurityConfig {
     @BeforeTestMethod
     void securitySetUp() {
         given(userAccountService.searchUser(anyString())).willReturn(Optional.of(createUserAccountDto()));
+        given(userAccountService.searchPrincipal(anyString())).willReturn(Optional.of(BoardPrincipal.from(createUserAccountDto())));
         given(userAccountService.saveUser(anyString(), anyString(),anyString(),anyString(),anyString())).willReturn(createUserAccountDto());
     }
 
@@ -0,0 +1,96 @@
+package com.springboot.board.controller;
+
+import com.springboot.board.config.TestSecurityConfig;
+import com.springboot.board.dto.ArticleCommentDto;
+import com.springboot.board.dto.ArticleCommentThreadDto;
+import com.springboot.board.dto.KeysetCursor;
+import com.springboot.board.dto.UserAccountDto;
+import com.springboot.board.service.ArticleCommentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("컨트롤러API - Comment")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ArticleCommentApiController.class)
+class ArticleCommentApiControllerTest {
+
+    private final MockMvc mvc;
+    @MockBean
+    private ArticleCommentService articleCommentService;
+
+    public ArticleCommentApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[GET]/api/comments?articleId : 최상위 댓글 + 일부 대댓글 + 다음 cursor")
+    @Test
+    void givenArticleId_whenRequestingCommentThreads_thenReturnsThreadsWithCursors() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ArticleCommentDto parent = createArticleCommentDto(1L, null, createdAt);
+        ArticleCommentDto child = createArticleCommentDto(2L, 1L, createdAt.plusDays(1));
+        given(articleCommentService.searchArticleCommentThreads(eq(1L), eq(null), eq(1), eq(1)))
+                .willReturn(new SliceImpl<>(List.of(ArticleCommentThreadDto.of(parent, List.of(child), true)), PageRequest.ofSize(1), true));
+
+        mvc.perform(get("/api/comments").queryParam("articleId", "1").queryParam("size", "1").queryParam("childSize", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].comment.id").value(1))
+                .andExpect(jsonPath("$.content[0].childComments[0].id").value(2))
+                .andExpect(jsonPath("$.content[0].nextChildCursor").value(KeysetCursor.of(child.createdAt(), 2L).encode()))
+                .andExpect(jsonPath("$.nextCursor").value(KeysetCursor.of(createdAt, 1L).encode()));
+        then(articleCommentService).should().searchArticleCommentThreads(eq(1L), eq(null), eq(1), eq(1));
+    }
+
+    @DisplayName("[GET]/api/comments?childSize=0 : 대댓글 미리보기는 최소 1건")
+    @Test
+    void givenZeroChildSize_whenRequestingCommentThreads_thenUsesAtLeastOneChildComment() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ArticleCommentDto parent = createArticleCommentDto(1L, null, createdAt);
+        ArticleCommentDto child = createArticleCommentDto(2L, 1L, createdAt.plusDays(1));
+        given(articleCommentService.searchArticleCommentThreads(eq(1L), eq(null), eq(20), eq(1)))
+                .willReturn(new SliceImpl<>(List.of(ArticleCommentThreadDto.of(parent, List.of(child), true)), PageRequest.ofSize(20), false));
+
+        mvc.perform(get("/api/comments").queryParam("articleId", "1").queryParam("childSize", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].childComments[0].id").value(2))
+                .andExpect(jsonPath("$.content[0].nextChildCursor").value(KeysetCursor.of(child.createdAt(), 2L).encode()));
+        then(articleCommentService).should().searchArticleCommentThreads(eq(1L), eq(null), eq(20), eq(1));
+    }
+
+    @DisplayName("[GET]/api/comments/{commentId}/replies : 대댓글 더 보기")
+    @Test
+    void givenCommentIdAndCursor_whenRequestingChildComments_thenReturnsNextChildComments() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        KeysetCursor cursor = KeysetCursor.of(createdAt, 2L);
+        given(articleCommentService.searchChildComments(1L, cursor, 20))
+                .willReturn(new SliceImpl<>(List.of(createArticleCommentDto(3L, 1L, createdAt.plusDays(1))), PageRequest.ofSize(20), false));
+
+        mvc.perform(get("/api/comments/1/replies").queryParam("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3))
+                .andExpect(jsonPath("$.content[0].parentCommentId").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        then(articleCommentService).should().searchChildComments(1L, cursor, 20);
+    }
+
+    private ArticleCommentDto createArticleCommentDto(Long id, Long parentCommentId, LocalDateTime createdAt) {
+        UserAccountDto userAccountDto = UserAccountDto.of("MJ", "pw", "MJ@mail.com", "MJ", null);
+        return ArticleCommentDto.of(id, 1L, userAccountDto, parentCommentId, "content", createdAt, "MJ", createdAt, "MJ");
+    }
+}
@@ -4,8 +4,11 @@ import com.springboot.board.config.TestSecurityConfig;
 import com.springboot.board.domain.constant.FormStatus;
 import com.springboot.board.domain.constant.SearchType;
 import com.springboot.board.dto.ArticleDto;
+import com.springboot.board.dto.ArticleSummaryDto;
+import com.springboot.board.dto.ArticleVersionDto;
 import com.springboot.board.dto.ArticleWithCommentsDto;
 import com.springboot.board.dto.HashtagDto;
+import com.springboot.board.dto.KeysetCursor;
 import com.springboot.board.dto.UserAccountDto;
 import com.springboot.board.dto.request.ArticleRequest;
 import com.springboot.board.dto.response.ArticleResponse;
@@ -21,14 +24,20 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -101,6 +110,25 @@ class ArticleControllerTest {
         then(paginationService).should().getPagingBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[GET]/articles/index?cursor : Article List (keyset 페이지네이션)")
+    @Test
+    void givenCursor_whenRequestingArticlesView_thenReturnsArticlesViewWithNextCursor() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ArticleSummaryDto dto = ArticleSummaryDto.of(1L, "title", "MJ", "MJ", "mj@gmail.com", Set.of(), createdAt);
+        given(articleService.searchArticles(eq(null), eq(null), eq(null), anyInt()))
+                .willReturn(new SliceImpl<>(List.of(dto), PageRequest.ofSize(1), true));
+
+        mvc.perform(get("/articles").queryParam("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorMode", true))
+                .andExpect(model().attribute("nextCursor", KeysetCursor.of(createdAt, 1L).encode()));
+        then(articleService).should().searchArticles(eq(null), eq(null), eq(null), anyInt());
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[GET]/articles/detail : + with comments, + 인증O")
     @WithMockUser
     @Test
@@ -121,6 +149,48 @@ class ArticleControllerTest {
         then(articleService).should().getArticleWithComments(articleId);
         then(articleService).should().getArticleCount();
     }
+    @DisplayName("[GET]/articles/detail : 변경 없음(If-Modified-Since) -> 댓글 조회 없이 304")
+    @WithMockUser
+    @Test
+    void givenNotModifiedArticle_whenRequestingArticleView_thenReturnsNotModifiedWithoutLoadingComments() throws Exception {
+        Long articleId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        given(articleService.getArticleVersion(articleId)).willReturn(Optional.of(ArticleVersionDto.of(articleId, modifiedAt, 1L, modifiedAt.plusHours(1))));
+        given(articleService.getArticleCount()).willReturn(1L);
+
+        mvc.perform(get("/articles/" + articleId)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, ZonedDateTime.now().format(DateTimeFormatter.RFC_1123_DATE_TIME)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+        then(articleService).should().getArticleVersion(articleId);
+        then(articleService).should(never()).getArticleWithComments(any());
+    }
+
+    @DisplayName("[GET]/articles/detail : If-None-Match -> 변경 없으면 304, 새 댓글이 달리면 200")
+    @WithMockUser
+    @Test
+    void givenETag_whenRequestingArticleView_thenReturnsNotModifiedUntilNewComment() throws Exception {
+        Long articleId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ArticleVersionDto version = ArticleVersionDto.of(articleId, modifiedAt, 0L, null);
+        given(articleService.getArticleVersion(articleId)).willReturn(
+                Optional.of(version), Optional.of(version), Optional.of(ArticleVersionDto.of(articleId, modifiedAt, 1L, modifiedAt.plusHours(1))));
+        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
+        MockHttpSession session = new MockHttpSession();
+
+        String eTag = mvc.perform(get("/articles/" + articleId).session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        mvc.perform(get("/articles/" + articleId).session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"));
+        then(articleService).should(times(2)).getArticleWithComments(articleId);
+    }
+
     @DisplayName("[GET]/articles/detail + 인증X -> LoginPage")
     @Test
     void givenNothing_whenRequestingArticlePage_thenRedirectsToLoginPage() throws Exception {
@@ -0,0 +1,59 @@
+package com.springboot.board.controller;
+
+import com.springboot.board.config.TestSecurityConfig;
+import com.springboot.board.dto.HashtagCountDto;
+import com.springboot.board.service.HashtagPopularityIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("컨트롤러API - Hashtag")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(HashtagApiController.class)
+class HashtagApiControllerTest {
+
+    private final MockMvc mvc;
+    @MockBean
+    private HashtagPopularityIndex hashtagPopularityIndex;
+
+    public HashtagApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @DisplayName("[GET]/api/hashtags/suggest?prefix : 접두어로 시작하는 해시태그 + 게시글 수")
+    @Test
+    void givenPrefix_whenRequestingSuggestions_thenReturnsHashtagsWithCounts() throws Exception {
+        given(hashtagPopularityIndex.getHashtagsByPrefix("spr", 10)).willReturn(List.of(
+                HashtagCountDto.of("springboot", 4L), HashtagCountDto.of("spring", 2L)));
+
+        mvc.perform(get("/api/hashtags/suggest").queryParam("prefix", "spr"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].hashtagName").value("springboot"))
+                .andExpect(jsonPath("$[0].articleCount").value(4))
+                .andExpect(jsonPath("$[1].hashtagName").value("spring"));
+        then(hashtagPopularityIndex).should().getHashtagsByPrefix("spr", 10);
+    }
+
+    @DisplayName("[GET]/api/hashtags/suggest?size : 최대 개수 제한")
+    @Test
+    void givenTooLargeSize_whenRequestingSuggestions_thenLimitsSize() throws Exception {
+        given(hashtagPopularityIndex.getHashtagsByPrefix("j", HashtagPopularityIndex.MAX_SUGGESTION_SIZE)).willReturn(List.of());
+
+        mvc.perform(get("/api/hashtags/suggest").queryParam("prefix", "j").queryParam("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        then(hashtagPopularityIndex).should().getHashtagsByPrefix("j", HashtagPopularityIndex.MAX_SUGGESTION_SIZE);
+    }
+}
@@ -0,0 +1,34 @@
+package com.springboot.board.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DTO - 해시태그 검색어")
+class HashtagQueryTest {
+
+    @DisplayName("검색어 -> +는 AND, -는 NOT, 나머지는 OR (# 와 대소문자 무시)")
+    @Test
+    void givenKeyword_whenParsing_thenSplitsIntoAllAnyNone() {
+        HashtagQuery query = HashtagQuery.parse("  +#Spring java   #kotlin -legacy +  ");
+
+        assertThat(query.allOf()).containsExactly("spring");
+        assertThat(query.anyOf()).containsExactly("java", "kotlin");
+        assertThat(query.noneOf()).containsExactly("legacy");
+        assertThat(query.isEmpty()).isFalse();
+        assertThat(query.hasOnlyExclusions()).isFalse();
+        assertThat(query.singleHashtagName()).isEmpty();
+    }
+
+    @DisplayName("해시태그 하나 / 제외만 / 빈 검색어")
+    @Test
+    void givenSimpleKeywords_whenParsing_thenClassifiesQuery() {
+        assertThat(HashtagQuery.parse("+java").singleHashtagName()).hasValue("java");
+        assertThat(HashtagQuery.parse("-java").hasOnlyExclusions()).isTrue();
+        assertThat(HashtagQuery.parse(" + - # ").isEmpty()).isTrue();
+        assertThat(HashtagQuery.parse(null)).isEqualTo(HashtagQuery.of(Set.of(), Set.of(), Set.of()));
+    }
+}
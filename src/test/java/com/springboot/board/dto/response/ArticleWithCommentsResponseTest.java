@@ -4,7 +4,6 @@ import com.springboot.board.dto.ArticleCommentDto;
 import com.springboot.board.dto.ArticleWithCommentsDto;
 import com.springboot.board.dto.HashtagDto;
 import com.springboot.board.dto.UserAccountDto;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
@@ -60,11 +59,9 @@ class ArticleWithCommentsResponseTest {
 
         ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(input);
         assertThat(actual.articleCommentResponse())
-            .containsExactly(
-                createArticleCommentResponse(5L, null, now.plusDays(5)),
-                createArticleCommentResponse(6L, null, now.plusDays(4)),
-                createArticleCommentResponse(1L, null, now)
-            )
+            .extracting(ArticleCommentResponse::id)
+            .containsExactly(5L, 6L, 1L);
+        assertThat(actual.articleCommentResponse())
             .flatExtracting(ArticleCommentResponse::childComments)
             .containsExactly(
                 createArticleCommentResponse(7L, 6L, now.plusDays(2L)),
@@ -73,7 +70,6 @@ class ArticleWithCommentsResponseTest {
                 createArticleCommentResponse(2L, 1L, now.plusDays(1L)),
                 createArticleCommentResponse(3L, 1L, now.plusDays(3L)));
     }
-    @Disabled
     @DisplayName("[N차 대댓글]게시글 + 댓글 dto를 api 응답으로 변환할 때, 부모 자식 관계 깊이(depth)는 제한X")
     @Test
     void givenArticleWithCommentsDto_whenMapping_thenOrganizesParentAndChildCommentsWithoutDepthLimit() {
@@ -104,6 +100,24 @@ class ArticleWithCommentsResponseTest {
         }
     }
 
+    @DisplayName("부모 댓글이 없는 대댓글은 최상위 댓글로 취급")
+    @Test
+    void givenChildCommentWithoutParent_whenMapping_thenTreatsItAsRootComment() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<ArticleCommentDto> articleCommentDtos = Set.of(
+            createArticleCommentDto(1L, null, now),
+            createArticleCommentDto(2L, 99L, now.plusDays(1L)),
+            createArticleCommentDto(3L, 2L, now.plusDays(2L)));
+        ArticleWithCommentsDto input = createArticleWithCommentsDto(articleCommentDtos);
+
+        ArticleWithCommentsResponse actual = ArticleWithCommentsResponse.from(input);
+        assertThat(actual.articleCommentResponse())
+            .extracting(ArticleCommentResponse::id)
+            .containsExactly(2L, 1L);
+        assertThat(actual.articleCommentResponse().get(0).childComments())
+            .containsExactly(createArticleCommentResponse(3L, 2L, now.plusDays(2L)));
+    }
+
     private ArticleWithCommentsDto createArticleWithCommentsDto(Set<ArticleCommentDto> articleCommentDtos) {
         return ArticleWithCommentsDto.of(1L, createUserAccountDto(), articleCommentDtos,
             "title", "content", Set.of(HashtagDto.of("java")),
@@ -4,7 +4,18 @@ import com.springboot.board.domain.Article;
 import com.springboot.board.domain.ArticleComment;
 import com.springboot.board.domain.Hashtag;
 import com.springboot.board.domain.UserAccount;
+import com.springboot.board.domain.constant.SearchType;
+import com.springboot.board.dto.ArticleHashtagDto;
+import com.springboot.board.dto.ArticleSummaryDto;
+import com.springboot.board.dto.ArticleVersionDto;
+import com.springboot.board.dto.HashtagCountDto;
+import com.springboot.board.dto.KeysetCursor;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +26,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -29,16 +43,19 @@ class JpaRepositoryTest {
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final EntityManager entityManager;
 
     JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
             @Autowired UserAccountRepository userAccountRepository,
-            @Autowired HashtagRepository hashtagRepository){
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired EntityManager entityManager){
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.entityManager = entityManager;
     }
 
     @DisplayName("select TEST")
@@ -95,6 +112,29 @@ class JpaRepositoryTest {
         assertThat(hashtagNames).hasSize(19);
     }
 
+    @DisplayName("[Querydsl] 사용 중인 hashtag 이름을 keyset 으로 나눠 조회")
+    @Test
+    void givenChunkSize_whenQueryingHashtagNamesInUse_thenReturnsEveryNameOnceInOrder() {
+        List<String> hashtagNames = new ArrayList<>();
+        List<String> chunk;
+        do {
+            chunk = hashtagRepository.findHashtagNamesInUse(hashtagNames.isEmpty() ? null : hashtagNames.get(hashtagNames.size() - 1), 5);
+            hashtagNames.addAll(chunk);
+        } while (chunk.size() == 5);
+
+        assertThat(hashtagNames).hasSize(19).isSorted().doesNotHaveDuplicates()
+                .isEqualTo(articleRepository.findAllDistinctHashtags());
+    }
+
+    @DisplayName("[Querydsl] 해시태그별 게시글 수 조회")
+    @Test
+    void givenNothing_whenQueryingHashtagCounts_thenReturnsArticleCountPerHashtag() {
+        List<HashtagCountDto> hashtagCounts = hashtagRepository.findHashtagCounts();
+        assertThat(hashtagCounts).hasSize(19);
+        assertThat(hashtagCounts.stream().mapToLong(HashtagCountDto::articleCount).sum()).isEqualTo(96L);
+        assertThat(hashtagCounts.stream().mapToLong(HashtagCountDto::articleCount).max()).hasValue(10L);
+    }
+
     @DisplayName("[Querydsl] hashtag로 페이징된 게시글 검색")
     @Test
     void givenHashtagNamesAndPageable_whenQueryingArticles_thenReturnsArticlePage() {
@@ -114,6 +154,187 @@ class JpaRepositoryTest {
         assertThat(articlePage.getTotalPages()).isEqualTo(4);
     }
 
+    @DisplayName("[Querydsl] 게시글 상세 : 작성자, 해시태그, 댓글, 댓글 작성자를 함께 조회")
+    @Test
+    void givenArticleId_whenQueryingArticleWithComments_thenInitializesAssociations() {
+        Article article = articleRepository.findWithCommentsById(1L).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(article.getUserAccount())).isTrue();
+        assertThat(Hibernate.isInitialized(article.getHashtags())).isTrue();
+        assertThat(Hibernate.isInitialized(article.getArticleComments())).isTrue();
+        assertThat(article.getArticleComments()).isNotEmpty()
+                .allSatisfy(comment -> assertThat(Hibernate.isInitialized(comment.getUserAccount())).isTrue());
+        assertThat(articleRepository.findWithCommentsById(0L)).isEmpty();
+    }
+
+    @DisplayName("[Querydsl] 게시글 버전 : 게시글 수정일, 댓글 수, 마지막 댓글 수정일")
+    @Test
+    void givenArticleId_whenQueryingArticleVersion_thenReturnsModifiedAtAndCommentStats() {
+        Article article = articleRepository.findWithCommentsById(1L).orElseThrow();
+        LocalDateTime lastCommentModifiedAt = article.getArticleComments().stream()
+                .map(ArticleComment::getModifiedAt).max(Comparator.naturalOrder()).orElseThrow();
+
+        ArticleVersionDto version = articleRepository.findVersionById(1L).orElseThrow();
+        assertThat(version.articleModifiedAt()).isEqualTo(article.getModifiedAt());
+        assertThat(version.commentCount()).isEqualTo(article.getArticleComments().size());
+        assertThat(version.lastCommentModifiedAt()).isEqualTo(lastCommentModifiedAt);
+        assertThat(articleRepository.findVersionById(0L)).isEmpty();
+    }
+
+    @DisplayName("[Querydsl] 검색 조건으로 count 없이 게시글 목록 + 건수 조회")
+    @Test
+    void givenSearchCondition_whenQueryingArticles_thenReturnsContentAndCount() {
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.desc("hashtags")));
+
+        List<Article> articles = articleRepository.findBySearch(SearchType.HASHTAG, "blue crimson fuscia", null, pageable);
+        long count = articleRepository.countBySearch(SearchType.HASHTAG, "blue crimson fuscia", null);
+
+        assertThat(articles).hasSize(5);
+        assertThat(articles.get(0).getHashtags()).extracting("hashtagName", String.class).containsExactly("fuscia");
+        assertThat(count).isEqualTo(17L);
+        assertThat(articleRepository.countByHashtags_HashtagName("fuscia"))
+                .isEqualTo(articleRepository.countBySearch(SearchType.HASHTAG, "fuscia", null));
+    }
+
+    @DisplayName("[Querydsl] 해시태그 검색어 AND/OR/NOT 조건 검색")
+    @Test
+    void givenHashtagQuery_whenCountingArticles_thenAppliesAllAnyNoneConditions() {
+        long redCount = articleRepository.countByHashtags_HashtagName("red");
+
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "+red +white", null)).isEqualTo(1L);
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "red white", null)).isEqualTo(redCount);
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "+#RED -white", null)).isEqualTo(redCount - 1);
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "-red", null)).isEqualTo(articleRepository.count() - redCount);
+        assertThat(articleRepository.countBySearch(SearchType.HASHTAG, "+", null)).isZero();
+    }
+
+    @DisplayName("[Querydsl] (게시글, 해시태그) 쌍을 keyset 으로 나눠 조회")
+    @Test
+    void givenChunkSize_whenQueryingArticleHashtags_thenReturnsEveryPairOnce() {
+        List<ArticleHashtagDto> pairs = new ArrayList<>();
+        List<ArticleHashtagDto> chunk;
+        do {
+            ArticleHashtagDto last = pairs.isEmpty() ? null : pairs.get(pairs.size() - 1);
+            chunk = articleRepository.findArticleHashtags(last == null ? null : last.articleId(), last == null ? null : last.hashtagId(), 10);
+            pairs.addAll(chunk);
+        } while (chunk.size() == 10);
+
+        assertThat(pairs).hasSize(96).doesNotHaveDuplicates();
+        assertThat(pairs).filteredOn(pair -> pair.articleId() == 45L)
+                .extracting(ArticleHashtagDto::hashtagName).containsExactly("red", "white");
+    }
+
+    @DisplayName("[Querydsl] 게시글 목록 projection : 표시 컬럼 + 해시태그만 조회")
+    @Test
+    void givenSearchCondition_whenQueryingArticleSummaries_thenReturnsSummariesWithHashtags() {
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.desc("hashtags"), Sort.Order.desc("id")));
+
+        List<ArticleSummaryDto> summaries = articleRepository.findSummariesBySearch(SearchType.HASHTAG, "blue crimson fuscia", null, pageable);
+        List<Article> articles = articleRepository.findBySearch(SearchType.HASHTAG, "blue crimson fuscia", null, pageable);
+
+        assertThat(summaries).extracting(ArticleSummaryDto::id)
+                .containsExactlyElementsOf(articles.stream().map(Article::getId).distinct().toList());
+        assertThat(summaries.get(0).hashtagNames()).containsExactly("fuscia");
+        assertThat(summaries.get(0).title()).isEqualTo(articles.get(0).getTitle());
+        assertThat(summaries.get(0).userId()).isEqualTo(articles.get(0).getUserAccount().getUserId());
+    }
+
+    @DisplayName("[Querydsl] cursor(keyset)로 다음 페이지 게시글 검색")
+    @Test
+    void givenCursor_whenQueryingArticles_thenReturnsNextSliceWithoutOverlap() {
+        Slice<ArticleSummaryDto> firstSlice = articleRepository.findSummariesByCursor(null, null, null, 5);
+        ArticleSummaryDto last = firstSlice.getContent().get(firstSlice.getNumberOfElements() - 1);
+
+        Slice<ArticleSummaryDto> secondSlice = articleRepository.findSummariesByCursor(null, null, KeysetCursor.of(last.createdAt(), last.id()), 5);
+
+        assertThat(firstSlice.getContent()).hasSize(5);
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(secondSlice.getContent()).hasSize(5)
+                .doesNotContainAnyElementsOf(firstSlice.getContent())
+                .allSatisfy(article -> assertThat(article.createdAt()).isBeforeOrEqualTo(last.createdAt()));
+    }
+
+    @DisplayName("[Querydsl] cursor(keyset) + 검색어로 마지막 페이지 게시글 검색")
+    @Test
+    void givenSearchKeywordAndCursor_whenQueryingArticles_thenReturnsLastSlice() {
+        Slice<ArticleSummaryDto> slice = articleRepository.findSummariesByCursor(SearchType.HASHTAG, "fuscia", null, 100);
+
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.getContent()).isNotEmpty()
+                .allSatisfy(article -> assertThat(article.hashtagNames()).contains("fuscia"));
+    }
+
+    @DisplayName("[Native] 해시태그 일괄 upsert : 없는 것만 insert 하고 기존 id 유지")
+    @Test
+    void givenExistingAndNewHashtagNames_whenUpserting_thenInsertsOnlyNewHashtags() {
+        long previousHashtagCount = hashtagRepository.count();
+        Long blueId = hashtagRepository.findByHashtagName("blue").orElseThrow().getId();
+
+        List<Hashtag> hashtags = hashtagRepository.upsertHashtags(Set.of("blue", "newtag1", "newtag2"), "MJ");
+        List<Hashtag> upsertedAgain = hashtagRepository.upsertHashtags(List.of("newtag1", "newtag2", "newtag2"), "MJ");
+
+        assertThat(hashtags).extracting("hashtagName").containsExactlyInAnyOrder("blue", "newtag1", "newtag2");
+        assertThat(hashtags).allSatisfy(hashtag -> assertThat(hashtag.getId()).isNotNull());
+        assertThat(hashtags).filteredOn("hashtagName", "blue").extracting("id").containsExactly(blueId);
+        assertThat(upsertedAgain).extracting("id")
+                .containsExactlyInAnyOrderElementsOf(hashtags.stream().filter(h -> !h.getHashtagName().equals("blue")).map(Hashtag::getId).toList());
+        assertThat(hashtagRepository.count()).isEqualTo(previousHashtagCount + 2);
+    }
+
+    @DisplayName("[2차 캐시] Hashtag, UserAccount 는 트랜잭션 밖 캐시에서, 해시태그 이름 조회는 쿼리 캐시에서")
+    @Test
+    void givenLoadedEntities_whenQueryingAgain_thenHitsSecondLevelCache() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        Long blueId = hashtagRepository.findByHashtagName("blue").orElseThrow().getId();
+        userAccountRepository.findById("MJ").orElseThrow();
+        hashtagRepository.findByHashtagNameIn(Set.of("blue"));
+        entityManager.clear();
+        statistics.clear();
+
+        List<Hashtag> hashtags = hashtagRepository.findByHashtagNameIn(Set.of("blue"));
+
+        assertThat(hashtags).extracting("id").containsExactly(blueId);
+        assertThat(cache.contains(Hashtag.class, blueId)).isTrue();
+        assertThat(cache.contains(UserAccount.class, "MJ")).isTrue();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1L);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("[2차 캐시] 해시태그 upsert 는 캐시된 해시태그와 이름 조회 결과를 비우지 않음")
+    @Test
+    void givenCachedHashtags_whenUpserting_thenKeepsSecondLevelCache() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        Long blueId = hashtagRepository.findByHashtagName("blue").orElseThrow().getId();
+        hashtagRepository.findByHashtagNameIn(Set.of("blue"));
+
+        hashtagRepository.upsertHashtags(List.of("newtag"), "MJ");
+        entityManager.clear();
+        statistics.clear();
+        List<Hashtag> hashtags = hashtagRepository.findByHashtagNameIn(Set.of("blue"));
+
+        assertThat(hashtags).extracting("id").containsExactly(blueId);
+        assertThat(cache.contains(Hashtag.class, blueId)).isTrue();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1L);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("게시글 없는 해시태그만 일괄 삭제")
+    @Test
+    void givenHashtagIds_whenDeletingHashtagsWithoutArticles_thenDeletesOnlyOrphans() {
+        Hashtag orphan = hashtagRepository.save(Hashtag.of("orphan"));
+        Long usedHashtagId = hashtagRepository.findByHashtagName("blue").orElseThrow().getId();
+        long previousHashtagCount = hashtagRepository.count();
+
+        int deleted = hashtagRepository.deleteByIdInAndArticlesIsEmpty(List.of(orphan.getId(), usedHashtagId));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(hashtagRepository.count()).isEqualTo(previousHashtagCount - 1);
+        assertThat(hashtagRepository.findById(usedHashtagId)).isPresent();
+        assertThat(hashtagRepository.findIdsWithoutArticles(PageRequest.ofSize(10))).doesNotContain(orphan.getId());
+    }
+
     @DisplayName("대댓글 조회 테스트")
     @Test
     void givenParentCommentId_whenSelecting_thenReturnsChildComments() {
@@ -124,6 +345,24 @@ class JpaRepositoryTest {
                 .hasSize(4);
     }
 
+    @DisplayName("[Querydsl] 최상위 댓글 cursor 조회 + 부모별 대댓글 개수 제한 조회")
+    @Test
+    void givenArticleId_whenQueryingCommentThreads_thenReturnsRootCommentsAndBoundedChildComments() {
+        Slice<ArticleComment> rootComments = articleCommentRepository.findRootComments(49L, null, 10);
+        List<ArticleComment> childComments = articleCommentRepository.findChildComments(49L, List.of(1L), 2);
+        ArticleComment lastChild = childComments.get(childComments.size() - 1);
+        Slice<ArticleComment> restChildComments = articleCommentRepository.findChildComments(1L, KeysetCursor.of(lastChild.getCreatedAt(), lastChild.getId()), 10);
+
+        assertThat(rootComments.getContent()).isNotEmpty()
+                .allSatisfy(comment -> assertThat(comment.getParentCommentId()).isNull())
+                .extracting(ArticleComment::getId).contains(1L);
+        assertThat(childComments).hasSize(2)
+                .allSatisfy(comment -> assertThat(comment.getParentCommentId()).isEqualTo(1L));
+        assertThat(restChildComments.hasNext()).isFalse();
+        assertThat(restChildComments.getContent()).hasSize(2)
+                .allSatisfy(comment -> assertThat(comment.getCreatedAt()).isAfter(lastChild.getCreatedAt()));
+    }
+
     @DisplayName("댓글에 대댓글 삽입 테스트")
     @Test
     void givenParentComment_whenSaving_thenInsertsChildComment() {
@@ -5,6 +5,7 @@ import com.springboot.board.domain.ArticleComment;
 import com.springboot.board.domain.Hashtag;
 import com.springboot.board.domain.UserAccount;
 import com.springboot.board.dto.ArticleCommentDto;
+import com.springboot.board.dto.ArticleCommentThreadDto;
 import com.springboot.board.dto.UserAccountDto;
 import com.springboot.board.repository.ArticleCommentRepository;
 import com.springboot.board.repository.ArticleRepository;
@@ -16,6 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -37,6 +41,8 @@ class ArticleCommentServiceTest {
     private ArticleCommentRepository articleCommentRepository;
     @Mock
     private UserAccountRepository userAccountRepository;
+    @Mock
+    private RenderedPageCache renderedPageCache;
 
     @DisplayName("ArticleID 조회 -> 댓글리스트반환")
     @Test
@@ -58,6 +64,30 @@ class ArticleCommentServiceTest {
                         );
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
+    @DisplayName("ArticleID 조회 -> 최상위 댓글 Slice + 부모별 일부 대댓글 반환")
+    @Test
+    void givenArticleId_whenSearchingCommentThreads_thenReturnsThreadsWithBoundedChildComments(){
+        Long articleId = 1L;
+        ArticleComment parentComment = createArticleComment(1L, "parent content");
+        ArticleComment childComment1 = createArticleComment(2L, "child content");
+        ArticleComment childComment2 = createArticleComment(3L, "child content");
+        childComment1.setParentCommentId(1L);
+        childComment2.setParentCommentId(1L);
+        given(articleCommentRepository.findRootComments(articleId, null, 10))
+                .willReturn(new SliceImpl<>(List.of(parentComment), PageRequest.ofSize(10), false));
+        given(articleCommentRepository.findChildComments(articleId, List.of(1L), 2))
+                .willReturn(List.of(childComment1, childComment2));
+
+        Slice<ArticleCommentThreadDto> actual = sut.searchArticleCommentThreads(articleId, null, 10, 1);
+        assertThat(actual.hasNext()).isFalse();
+        assertThat(actual.getContent()).hasSize(1);
+        assertThat(actual.getContent().get(0).comment().id()).isEqualTo(1L);
+        assertThat(actual.getContent().get(0).childComments()).extracting("id").containsExactly(2L);
+        assertThat(actual.getContent().get(0).hasMoreChildComments()).isTrue();
+        then(articleCommentRepository).should().findRootComments(articleId, null, 10);
+        then(articleCommentRepository).should().findChildComments(articleId, List.of(1L), 2);
+    }
+
     // 댓글 저장
     @DisplayName("CommentInfo -> Save Comment")
     @Test
@@ -72,6 +102,7 @@ class ArticleCommentServiceTest {
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should(never()).getReferenceById(anyLong());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(renderedPageCache).should().contentChanged();
     }
     // 대댓글 저장
     @DisplayName("Parent ID + Child INFO -> SAVE ChildComment")
@@ -104,6 +135,7 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).shouldHaveNoInteractions();
         then(articleCommentRepository).shouldHaveNoInteractions();
+        then(renderedPageCache).shouldHaveNoInteractions();
     }
 
     @DisplayName("CommentID -> Delete Comment")
@@ -115,6 +147,7 @@ class ArticleCommentServiceTest {
 
         sut.deleteArticleComment(articleCommentId, userId);
         then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId,userId);
+        then(renderedPageCache).should().contentChanged();
     }
 
 
@@ -0,0 +1,70 @@
+package com.springboot.board.service;
+
+import com.springboot.board.domain.constant.SearchType;
+import com.springboot.board.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비즈니스로직 - 게시글 건수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCountServiceTest {
+    @InjectMocks
+    private ArticleCountService sut;
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @DisplayName("전체 건수 -> 한 번만 DB 조회 후 쓰기 시 증감")
+    @Test
+    void givenArticleWrites_whenCountingTotal_thenCountsOnceAndAdjustsIncrementally() {
+        given(articleRepository.count()).willReturn(10L);
+
+        long before = sut.getTotalCount();
+        sut.articleCreated(List.of("java"));
+        sut.articleCreated(List.of());
+        sut.articleDeleted(List.of("java"));
+
+        assertThat(before).isEqualTo(10L);
+        assertThat(sut.getTotalCount()).isEqualTo(11L);
+        then(articleRepository).should().count();
+    }
+
+    @DisplayName("해시태그별 건수 -> 한 번만 DB 조회 후 해시태그 변경 시 증감")
+    @Test
+    void givenHashtagChanges_whenCountingHashtag_thenAdjustsIncrementally() {
+        given(articleRepository.countByHashtags_HashtagName("java")).willReturn(3L);
+
+        sut.getHashtagCount("java");
+        sut.articleCreated(List.of("java", "spring"));
+        sut.hashtagsChanged(List.of("java"), List.of("spring"));
+        sut.hashtagsChanged(List.of(), List.of("java"));
+
+        assertThat(sut.getHashtagCount("java")).isEqualTo(4L);
+        then(articleRepository).should().countByHashtags_HashtagName("java");
+    }
+
+    @DisplayName("검색 건수 -> TTL 동안 캐시")
+    @Test
+    void givenSameSearchCondition_whenCounting_thenUsesCachedCount() {
+        AtomicInteger calls = new AtomicInteger();
+
+        long first = sut.getSearchCount(SearchType.TITLE, "spring", () -> {calls.incrementAndGet(); return 5L;});
+        long second = sut.getSearchCount(SearchType.TITLE, "spring", () -> {calls.incrementAndGet(); return 7L;});
+        long other = sut.getSearchCount(SearchType.CONTENT, "spring", () -> {calls.incrementAndGet(); return 2L;});
+
+        assertThat(first).isEqualTo(5L);
+        assertThat(second).isEqualTo(5L);
+        assertThat(other).isEqualTo(2L);
+        assertThat(calls).hasValue(2);
+    }
+}
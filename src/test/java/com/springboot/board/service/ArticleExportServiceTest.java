@@ -0,0 +1,83 @@
+package com.springboot.board.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.board.domain.Article;
+import com.springboot.board.domain.ArticleComment;
+import com.springboot.board.domain.Hashtag;
+import com.springboot.board.repository.ArticleCommentRepository;
+import com.springboot.board.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스로직 - 게시글 내보내기")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(ArticleExportService.class)
+@DataJpaTest(properties = "board.article-export.batch-size=10")
+class ArticleExportServiceTest {
+    @Autowired private ArticleExportService sut;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private ArticleCommentRepository articleCommentRepository;
+
+    @DisplayName("전체 게시글 -> 게시글마다 한 줄, 해시태그와 댓글 포함")
+    @Test
+    void whenExporting_thenWritesOneLinePerArticleWithHashtagsAndComments() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ArticleExportService.Result result = sut.exportArticles(out, false);
+
+        List<JsonNode> lines = readLines(out.toString(StandardCharsets.UTF_8));
+        assertThat(lines).hasSize((int) articleRepository.count());
+        assertThat(result.exportedArticles()).isEqualTo(articleRepository.count());
+        assertThat(result.exportedComments()).isEqualTo(articleCommentRepository.count());
+        assertThat(lines).extracting(line -> line.get("id").asLong()).isSorted();
+        assertThat(lines.stream().mapToLong(line -> line.get("comments").size()).sum()).isEqualTo(articleCommentRepository.count());
+
+        Article article = articleRepository.findById(1L).orElseThrow();
+        JsonNode line = lines.get(0);
+        assertThat(line.get("userId").asText()).isEqualTo(article.getUserAccount().getUserId());
+        assertThat(line.get("title").asText()).isEqualTo(article.getTitle());
+        assertThat(line.get("content").asText()).isEqualTo(article.getContent());
+        assertThat(line.get("hashtags")).extracting(JsonNode::asText)
+                .containsExactlyInAnyOrderElementsOf(article.getHashtags().stream().map(Hashtag::getHashtagName).toList());
+        assertThat(line.get("comments")).extracting(comment -> comment.get("id").asLong())
+                .containsExactlyInAnyOrderElementsOf(articleCommentRepository.findByArticle_Id(1L).stream().map(ArticleComment::getId).toList());
+    }
+
+    @DisplayName("gzip -> 압축을 풀면 같은 내용")
+    @Test
+    void givenGzip_whenExporting_thenWritesCompressedJsonLines() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        sut.exportArticles(plain, false);
+        sut.exportArticles(compressed, true);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.toByteArray());
+        }
+        assertThat(compressed.size()).isLessThan(plain.size());
+    }
+
+    private List<JsonNode> readLines(String jsonLines) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : jsonLines.split("\n")) {lines.add(objectMapper.readTree(line));}
+        return lines;
+    }
+}
@@ -0,0 +1,162 @@
+package com.springboot.board.service;
+
+import com.springboot.board.domain.Article;
+import com.springboot.board.domain.Hashtag;
+import com.springboot.board.repository.ArticleCommentRepository;
+import com.springboot.board.repository.ArticleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+@DisplayName("비즈니스로직 - 게시글 일괄 가져오기")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ArticleImportService.class, HashtagService.class})
+@DataJpaTest
+class ArticleImportServiceTest {
+    @Autowired private ArticleImportService sut;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private ArticleCommentRepository articleCommentRepository;
+    @SpyBean private HashtagService hashtagService;
+    @MockBean private ArticleSearchIndex articleSearchIndex;
+    @MockBean private ArticleCountService articleCountService;
+    @MockBean private HashtagPopularityIndex hashtagPopularityIndex;
+    @MockBean private HashtagPostingIndex hashtagPostingIndex;
+    @MockBean private RenderedPageCache renderedPageCache;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @TempDir
+    private Path tempDir;
+
+    // 테스트 트랜잭션이 롤백되면 다음 테스트가 같은 게시글 id 를 다시 받으므로, 롤백된 게시글의 해시태그 컬렉션 캐시를 비운다.
+    @BeforeEach
+    void evictSecondLevelCache() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+
+    @DisplayName("JSON lines -> 게시글, 해시태그, 댓글 저장. 없는 작성자의 게시글/댓글은 건너뜀")
+    @Test
+    void givenJsonLinesFile_whenImporting_thenSavesArticlesWithHashtagsAndComments() throws IOException {
+        long articleCount = articleRepository.count();
+        Path file = write("posts.jsonl",
+                "{\"userId\":\"MJ\",\"title\":\"imported\",\"content\":\"hello #java #spring\",\"createdAt\":\"2020-01-01T10:00:00\","
+                        + "\"comments\":[{\"userId\":\"MJ2\",\"content\":\"nice\"},{\"userId\":\"nobody\",\"content\":\"spam\"}]}",
+                "{\"userId\":\"nobody\",\"title\":\"unknown user\",\"content\":\"#java\"}",
+                "{\"userId\":\"MJ2\",\"title\":\"no hashtag\",\"content\":\"plain\"}");
+
+        ArticleImportService.Result result = sut.importArticles(file, 2);
+
+        assertThat(result.position()).isEqualTo(3);
+        assertThat(result.importedArticles()).isEqualTo(2);
+        assertThat(result.importedComments()).isEqualTo(1);
+        assertThat(result.skippedArticles()).isEqualTo(1);
+        assertThat(result.skippedComments()).isEqualTo(1);
+        assertThat(articleRepository.count()).isEqualTo(articleCount + 2);
+
+        Article imported = latestArticle("imported");
+        assertThat(imported.getId()).isGreaterThan(123L);
+        assertThat(imported.getUserAccount().getUserId()).isEqualTo("MJ");
+        assertThat(imported.getHashtags()).extracting(Hashtag::getHashtagName).containsExactlyInAnyOrder("java", "spring");
+        assertThat(articleCommentRepository.findByArticle_Id(imported.getId()))
+                .singleElement()
+                .satisfies(comment -> assertThat(comment.getContent()).isEqualTo("nice"));
+        then(hashtagPostingIndex).should().add(eq(imported.getId()), eq(Set.of("java", "spring")));
+        then(articleSearchIndex).should().add(imported.getId(), "imported", "hello #java #spring");
+    }
+
+    @DisplayName("같은 파일로 다시 실행 -> 커밋된 행은 건너뛰고 새로 추가된 행만 가져옴")
+    @Test
+    void givenImportedFile_whenImportingAgain_thenResumesFromCheckpoint() throws IOException {
+        long articleCount = articleRepository.count();
+        Path file = write("posts.jsonl", "{\"userId\":\"MJ\",\"title\":\"first\",\"content\":\"1\"}");
+        sut.importArticles(file, 10);
+
+        Files.writeString(file, "{\"userId\":\"MJ\",\"title\":\"second\",\"content\":\"2\"}\n", StandardOpenOption.APPEND);
+        ArticleImportService.Result result = sut.importArticles(file, 10);
+
+        assertThat(result.position()).isEqualTo(2);
+        assertThat(result.importedArticles()).isEqualTo(1);
+        assertThat(articleRepository.count()).isEqualTo(articleCount + 2);
+        assertThat(latestArticle("second")).isNotNull();
+    }
+
+    @DisplayName("CSV(헤더, 여러 줄 본문) -> 게시글 저장")
+    @Test
+    void givenCsvFile_whenImporting_thenSavesArticles() throws IOException {
+        Path file = write("posts.csv",
+                "userId,title,content,createdAt",
+                "MJ,csv title,\"first line",
+                "second line #csv\",2020-01-01T10:00:00");
+
+        ArticleImportService.Result result = sut.importArticles(file, 100);
+
+        assertThat(result.importedArticles()).isEqualTo(1);
+        Article imported = latestArticle("csv title");
+        assertThat(imported.getContent()).isEqualTo("first line\nsecond line #csv");
+        assertThat(imported.getHashtags()).extracting(Hashtag::getHashtagName).containsExactly("csv");
+    }
+
+    @DisplayName("hashtag 컬럼보다 긴 해시태그 -> 게시글은 저장하고 그 해시태그만 뺌")
+    @Test
+    void givenOverLengthHashtag_whenImporting_thenSavesArticleWithoutIt() throws IOException {
+        String longHashtag = "a".repeat(256);
+        Path file = write("posts.jsonl", "{\"userId\":\"MJ\",\"title\":\"long hashtag\",\"content\":\"#" + longHashtag + " #java\"}");
+
+        ArticleImportService.Result result = sut.importArticles(file, 10);
+
+        assertThat(result.importedArticles()).isEqualTo(1);
+        assertThat(latestArticle("long hashtag").getHashtags()).extracting(Hashtag::getHashtagName).containsExactly("java");
+    }
+
+    @DisplayName("chunk 저장 실패 -> 한 행씩 다시 저장하고, 실패하는 행만 건너뛰고 진행 위치는 넘김")
+    @Test
+    void givenFailingRow_whenImporting_thenSkipsOnlyThatRow() throws IOException {
+        willThrow(new IllegalStateException("boom"))
+                .given(hashtagService).upsertHashtags(argThat(names -> names.contains("boom")), anyString());
+        Path file = write("posts.jsonl",
+                "{\"userId\":\"MJ\",\"title\":\"good\",\"content\":\"#java\"}",
+                "{\"userId\":\"MJ\",\"title\":\"bad\",\"content\":\"#boom\",\"comments\":[{\"userId\":\"MJ2\",\"content\":\"nice\"}]}");
+
+        ArticleImportService.Result result = sut.importArticles(file, 10);
+
+        assertThat(result.position()).isEqualTo(2);
+        assertThat(result.importedArticles()).isEqualTo(1);
+        assertThat(result.skippedArticles()).isEqualTo(1);
+        assertThat(result.skippedComments()).isEqualTo(1);
+        assertThat(latestArticle("good").getHashtags()).extracting(Hashtag::getHashtagName).containsExactly("java");
+        assertThat(articleRepository.findAll()).noneMatch(article -> article.getTitle().equals("bad"));
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        return Files.write(tempDir.resolve(fileName), List.of(lines));
+    }
+
+    private Article latestArticle(String title) {
+        return articleRepository.findAll(Sort.by(Sort.Direction.DESC, "id")).stream()
+                .filter(article -> article.getTitle().equals(title))
+                .findFirst().orElseThrow();
+    }
+}
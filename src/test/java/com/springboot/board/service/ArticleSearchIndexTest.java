@@ -0,0 +1,86 @@
+package com.springboot.board.service;
+
+import com.springboot.board.domain.constant.SearchType;
+import com.springboot.board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스로직 - 게시글 검색 색인")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+    @InjectMocks
+    private ArticleSearchIndex sut;
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(articleRepository.findTop1000ByIdGreaterThanOrderByIdAsc(anyLong())).willReturn(List.of());
+        sut.load();
+        sut.add(1L, "Spring Boot 게시판", "스프링 부트로 만든 게시판입니다. #spring");
+        sut.add(2L, "Java 공부", "자바 스프링 공부 기록");
+        sut.add(3L, "잡담", "오늘 점심은 김치찌개");
+    }
+
+    @DisplayName("제목 검색어 -> 후보 articleId (대소문자 무시)")
+    @Test
+    void givenTitleKeyword_whenSearching_thenReturnsCandidateIds() {
+        assertThat(search(SearchType.TITLE, "spring")).contains(Set.of(1L));
+        assertThat(search(SearchType.TITLE, "BOO")).contains(Set.of(1L));
+    }
+
+    @DisplayName("한글 본문 검색어 -> 2-gram 으로 후보 articleId")
+    @Test
+    void givenKoreanContentKeyword_whenSearching_thenReturnsCandidateIds() {
+        assertThat(search(SearchType.CONTENT, "스프링")).contains(Set.of(1L, 2L));
+        assertThat(search(SearchType.CONTENT, "김치찌개")).contains(Set.of(3L));
+        assertThat(search(SearchType.CONTENT, "된장찌개")).contains(Set.of());
+    }
+
+    @DisplayName("n-gram 보다 짧은 검색어 -> 검색어를 포함하는 색인 키로 후보 articleId")
+    @Test
+    void givenShortKeyword_whenSearching_thenReturnsCandidateIds() {
+        sut.add(4L, "Go 입문", "짧은 글");
+
+        assertThat(search(SearchType.TITLE, "ja")).contains(Set.of(2L));
+        assertThat(search(SearchType.TITLE, "go")).contains(Set.of(4L));
+        assertThat(search(SearchType.CONTENT, "김")).contains(Set.of(3L));
+        assertThat(search(SearchType.CONTENT, "글")).contains(Set.of(4L));
+        assertThat(search(SearchType.CONTENT, "스프링 글")).contains(Set.of());
+    }
+
+    @DisplayName("색인으로 답할 수 없는 검색어(글자 없는 검색어, 지원하지 않는 SearchType) -> Optional.empty")
+    @Test
+    void givenUnsupportedKeyword_whenSearching_thenReturnsEmpty() {
+        assertThat(sut.search(SearchType.CONTENT, "!!")).isEmpty();
+        assertThat(sut.search(SearchType.NICKNAME, "spring")).isEmpty();
+    }
+
+    @DisplayName("게시글 수정/삭제 -> 색인에 반영")
+    @Test
+    void givenUpdatedAndRemovedArticles_whenSearching_thenReflectsChanges() {
+        sut.update(2L, "Java 공부", "자바 스프링 공부 기록", "Kotlin 공부", "코틀린 공부 기록");
+        sut.remove(1L, "Spring Boot 게시판", "스프링 부트로 만든 게시판입니다. #spring");
+
+        assertThat(search(SearchType.CONTENT, "스프링")).isEqualTo(Optional.of(Set.of()));
+        assertThat(search(SearchType.TITLE, "kotlin")).contains(Set.of(2L));
+        assertThat(search(SearchType.TITLE, "게시판")).contains(Set.of());
+    }
+
+    private Optional<Set<Long>> search(SearchType searchType, String keyword) {
+        return sut.search(searchType, keyword).map(ArticleSearchIndex.Candidates::toSet);
+    }
+}
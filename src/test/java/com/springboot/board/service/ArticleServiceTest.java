@@ -5,11 +5,13 @@ import com.springboot.board.domain.Hashtag;
 import com.springboot.board.domain.UserAccount;
 import com.springboot.board.domain.constant.SearchType;
 import com.springboot.board.dto.ArticleDto;
+import com.springboot.board.dto.ArticleSummaryDto;
 import com.springboot.board.dto.ArticleWithCommentsDto;
+import com.springboot.board.dto.HashtagCountDto;
 import com.springboot.board.dto.HashtagDto;
+import com.springboot.board.dto.HashtagQuery;
 import com.springboot.board.dto.UserAccountDto;
 import com.springboot.board.repository.ArticleRepository;
-import com.springboot.board.repository.HashtagRepository;
 import com.springboot.board.repository.UserAccountRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -22,13 +24,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -45,37 +51,61 @@ class ArticleServiceTest {
     @Mock
     private UserAccountRepository userAccountRepository;
     @Mock
-    private HashtagRepository hashtagRepository;
-    @Mock
     private HashtagService hashtagService;
+    @Mock
+    private HashtagOutboxService hashtagOutboxService;
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+    @Mock
+    private ArticleCountService articleCountService;
+    @Mock
+    private HashtagPopularityIndex hashtagPopularityIndex;
+    @Mock
+    private HashtagPostingIndex hashtagPostingIndex;
+    @Mock
+    private RenderedPageCache renderedPageCache;
 
     /////* CREATE */
-    @DisplayName("ArticleInfo -> Create Article with hashtagInfo(content에서 hashtagInfo추출)")
+    @DisplayName("ArticleInfo -> Create Article, 해시태그 처리는 outbox 에 넣어 커밋 후 처리")
     @Test
-    void givenArticleInfo_whenSuccessSaving_thenExtractsHashtagsFromContentAndSavesArticle(){
-        ArticleDto dto = createArticleDto();
-        Set<String> expectedHashtagNames = Set.of("java", "spring");
-        Set<Hashtag> expectedExistingHashtags = new HashSet<>();
-        expectedExistingHashtags.add(createHashtag("java"));
-        Article expectedArticle = createArticle();
+    void givenArticleInfo_whenSuccessSaving_thenSavesArticleAndEnqueuesHashtagTask(){
+        ArticleDto dto = createArticleDto("title", "content #java #spring");
         ArgumentCaptor<Article> articleCaptor = ArgumentCaptor.forClass(Article.class);
 
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
-        given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedExistingHashtags);
-        given(articleRepository.save(any(Article.class))).willReturn(createArticle());
+        given(articleRepository.save(any(Article.class))).willAnswer(invocation -> {
+            Article article = invocation.getArgument(0);
+            ReflectionTestUtils.setField(article, "id", 1L);
+            return article;
+        });
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(Set.of("java", "spring"));
 
         sut.saveArticle(dto);
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
-        then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
         then(articleRepository).should().save(articleCaptor.capture());
         assertThat(articleCaptor.getValue())
                 .hasFieldOrPropertyWithValue("title", dto.title())
                 .hasFieldOrPropertyWithValue("content", dto.content())
                 .extracting("hashtags", as(InstanceOfAssertFactories.COLLECTION))
-                .extracting("hashtagName")
-                .containsExactlyInAnyOrderElementsOf(expectedHashtagNames);
+                .isEmpty();
+        then(hashtagService).should().parseHashtagNames(dto.content());
+        then(hashtagService).shouldHaveNoMoreInteractions();
+        then(hashtagOutboxService).should().enqueue(1L, dto.userAccountDto().userId(), Set.of());
+        then(articleCountService).should().articleCreated(Set.of());
+    }
+
+    @DisplayName("ArticleInfo(해시태그X) -> Create Article, outbox 에 넣지 않음")
+    @Test
+    void givenArticleInfoWithoutHashtags_whenSaving_thenDoesNotEnqueueHashtagTask(){
+        ArticleDto dto = createArticleDto();
+
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
+        given(articleRepository.save(any(Article.class))).willReturn(createArticle());
+        given(hashtagService.parseHashtagNames("content")).willReturn(Set.of());
+
+        sut.saveArticle(dto);
+        then(articleRepository).should().save(any(Article.class));
+        then(hashtagOutboxService).shouldHaveNoInteractions();
     }
 
     /////* READ */
@@ -97,58 +127,51 @@ class ArticleServiceTest {
     void givenArticleId_whenSearchingArticle_thenReturnsArticleWithComments() {
         Long articleId = 1L;
         Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleRepository.findWithCommentsById(articleId)).willReturn(Optional.of(article));
 
         ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
         assertThat(dto)
                 .hasFieldOrPropertyWithValue("title", article.getTitle())
                 .hasFieldOrPropertyWithValue("content", article.getContent())
                 .hasFieldOrPropertyWithValue("hashtagDtos", article.getHashtags().stream().map(HashtagDto::from).collect(Collectors.toUnmodifiableSet()));
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithCommentsById(articleId);
     }
 
     @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
     @Test
     void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
         Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        given(articleRepository.findWithCommentsById(articleId)).willReturn(Optional.empty());
 
         Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
         assertThat(t)
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("해당 게시글이 없습니다. articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithCommentsById(articleId);
     }
 
     /////* UPDATE */
-    @DisplayName("ArticleInfo -> Update Article")
+    @DisplayName("ArticleInfo -> Update Article, 해시태그 변경분은 outbox 에 넣어 커밋 후 처리")
     @Test
     void givenArticleInfo_whenSavingArticle_thenUpdatesArticle(){
         Article article = createArticle();
         ArticleDto dto = createArticleDto("새 타이틀", "새 내용 #springboot");
-        Set<String> expectedHashtagNames = Set.of("springboot");
-        Set<Hashtag> expectedHashtags = new HashSet<>();
 
         given(articleRepository.getReferenceById(dto.id())).willReturn(article);
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
-        given(hashtagService.parseHashtagNames(dto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
 
         sut.updateArticle(dto.id(), dto);
         assertThat(article)
                 .hasFieldOrPropertyWithValue("title", dto.title())
                 .hasFieldOrPropertyWithValue("content",dto.content())
-                .extracting("hashtags", as(InstanceOfAssertFactories.COLLECTION)).hasSize(1)
-                        .extracting("hashtagName").containsExactly("springboot");
+                .extracting("hashtags", as(InstanceOfAssertFactories.COLLECTION))
+                        .extracting("hashtagName").containsExactlyInAnyOrder("java", "spring");
 
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
-        then(hashtagService).should().parseHashtagNames(dto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagOutboxService).should().enqueue(dto.id(), dto.userAccountDto().userId(), Set.of());
+        then(hashtagService).shouldHaveNoInteractions();
+        then(articleCountService).shouldHaveNoInteractions();
     }
 
     @DisplayName("존재하지 않는 Article 수정시, ThrowException")
@@ -161,6 +184,7 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).shouldHaveNoInteractions();
         then(hashtagService).shouldHaveNoInteractions();
+        then(hashtagOutboxService).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글 작성자가 아닌 사람이 UpdateArticle -> Nothing")
@@ -177,6 +201,7 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(differentArticleId);
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(hashtagService).shouldHaveNoInteractions();
+        then(hashtagOutboxService).shouldHaveNoInteractions();
     }
 
     /////* DELETE */
@@ -187,14 +212,36 @@ class ArticleServiceTest {
         String userId = "MJ";
         given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
         willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId,userId);
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
 
         sut.deleteArticle(1L,userId);
         then(articleRepository).should().getReferenceById(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId,userId);
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagOutboxService).should().enqueue(articleId, userId, Set.of(1L, 2L));
+        then(hashtagService).shouldHaveNoInteractions();
+        then(renderedPageCache).should().contentChanged();
+    }
+
+    @DisplayName("트랜잭션 안에서 Delete Article -> 색인/건수는 커밋 후에 반영")
+    @Test
+    void givenActiveTransaction_whenDeletingArticle_thenUpdatesIndexesAfterCommit(){
+        Long articleId = 1L;
+        String userId = "MJ";
+        given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.deleteArticle(articleId, userId);
+            then(articleSearchIndex).shouldHaveNoInteractions();
+            then(articleCountService).shouldHaveNoInteractions();
+            then(hashtagPostingIndex).shouldHaveNoInteractions();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        then(articleSearchIndex).should().remove(articleId, "title", "content");
+        then(articleCountService).should().articleDeleted(Set.of("java", "spring"));
+        then(hashtagPopularityIndex).should().hashtagsChanged(Set.of("java", "spring"), Set.of());
+        then(hashtagPostingIndex).should().remove(articleId, Set.of("java", "spring"));
     }
 
     /* Search & hashtag Search*/
@@ -202,11 +249,14 @@ class ArticleServiceTest {
     @Test
     void givenNoSearchKeyword_whenSearchingArticles_thenReturnsArticlePage() {
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findSummariesBySearch(null, null, null, pageable)).willReturn(List.of());
+        given(articleCountService.getTotalCount()).willReturn(0L);
 
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findSummariesBySearch(null, null, null, pageable);
+        then(articleRepository).should(never()).count();
+        then(articleCountService).should().getTotalCount();
     }
 
     @DisplayName("SearchKeyword O -> ArticlePage")
@@ -215,11 +265,100 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleRepository.findSummariesBySearch(searchType, searchKeyword, null, pageable)).willReturn(List.of());
+        given(articleCountService.getSearchCount(eq(searchType), eq(searchKeyword), any())).willReturn(0L);
 
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().findSummariesBySearch(searchType, searchKeyword, null, pageable);
+        then(articleCountService).should().getSearchCount(eq(searchType), eq(searchKeyword), any());
+    }
+
+    @DisplayName("SearchKeyword O + 색인 후보 O -> 후보 id 내에서만 ArticlePage 조회")
+    @Test
+    void givenSearchKeywordWithIndexedCandidates_whenSearching_thenSearchesOnlyCandidateArticles(){
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "content";
+        Pageable pageable = Pageable.ofSize(20);
+        Set<Long> candidateIds = Set.of(1L, 2L);
+        given(articleSearchIndex.search(searchType, searchKeyword)).willReturn(Optional.of(ArticleSearchIndex.Candidates.of(candidateIds)));
+        given(articleRepository.findSummariesBySearch(searchType, searchKeyword, candidateIds, pageable)).willReturn(List.of());
+        given(articleCountService.getSearchCount(eq(searchType), eq(searchKeyword), any())).willReturn(0L);
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummariesBySearch(searchType, searchKeyword, candidateIds, pageable);
+    }
+
+    @DisplayName("SearchKeyword O + 색인 후보가 많음 -> LIKE 전체 검색 대신 후보 id 를 큰 id 부터 나눠 조회")
+    @Test
+    void givenSearchKeywordWithManyIndexedCandidates_whenSearching_thenPagesOverCandidateIds(){
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "spring";
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Set<Long> candidateIds = LongStream.rangeClosed(1L, 12_000L).boxed().collect(Collectors.toSet());
+        List<Long> firstChunk = LongStream.iterate(12_000L, id -> id - 1).limit(1_000).boxed().toList();
+        List<Long> secondChunk = LongStream.iterate(11_000L, id -> id - 1).limit(1_000).boxed().toList();
+        List<ArticleSummaryDto> found = LongStream.iterate(11_000L, id -> id - 1).limit(12)
+                .mapToObj(id -> ArticleSummaryDto.of(id, "spring", "MJ", "MJ", "mj@gmail.com", Set.of(), LocalDateTime.now()))
+                .toList();
+        given(articleSearchIndex.search(searchType, searchKeyword)).willReturn(Optional.of(ArticleSearchIndex.Candidates.of(candidateIds)));
+        given(articleRepository.countBySearch(searchType, searchKeyword, firstChunk)).willReturn(8L);
+        given(articleRepository.countBySearch(searchType, searchKeyword, secondChunk)).willReturn(12L);
+        given(articleRepository.findSummariesBySearch(searchType, searchKeyword, secondChunk,
+                PageRequest.of(0, 12, Sort.by(Sort.Direction.DESC, "id")))).willReturn(found);
+        given(articleCountService.getSearchCount(eq(searchType), eq(searchKeyword), any())).willReturn(100L);
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        assertThat(articles.getContent()).extracting(ArticleSummaryDto::id)
+                .containsExactlyElementsOf(LongStream.iterate(10_998L, id -> id - 1).limit(10).boxed().toList());
+        assertThat(articles.getTotalElements()).isEqualTo(100L);
+        then(articleRepository).should(never()).findSummariesBySearch(eq(searchType), eq(searchKeyword), isNull(), any());
+    }
+
+    @DisplayName("SearchKeyword O + 색인 후보 X -> DB 조회 없이 EmptyPage")
+    @Test
+    void givenSearchKeywordWithoutIndexedCandidates_whenSearching_thenReturnsEmptyPage(){
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "없는제목";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.search(searchType, searchKeyword)).willReturn(Optional.of(ArticleSearchIndex.Candidates.of(Set.of())));
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        assertThat(articles).isEmpty();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 검색어(AND/NOT) + posting 색인 -> 색인의 id 내에서 조회, 건수는 색인 결과")
+    @Test
+    void givenHashtagQuery_whenSearchingWithPostingIndex_thenUsesIndexedIdsAndCount(){
+        SearchType searchType = SearchType.HASHTAG;
+        String searchKeyword = "+java -spring";
+        Pageable pageable = Pageable.ofSize(20);
+        Set<Long> articleIds = Set.of(1L, 3L);
+        given(hashtagPostingIndex.search(HashtagQuery.parse(searchKeyword))).willReturn(Optional.of(new HashtagPostingIndex.Result(2L, articleIds)));
+        given(articleRepository.findSummariesBySearch(searchType, searchKeyword, articleIds, pageable)).willReturn(List.of());
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        assertThat(articles.getTotalElements()).isEqualTo(2L);
+        then(articleRepository).should().findSummariesBySearch(searchType, searchKeyword, articleIds, pageable);
+        then(articleCountService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 검색어 + posting 색인 사용 불가 -> DB 조건 검색, 단일 해시태그는 해시태그 건수")
+    @Test
+    void givenSingleHashtag_whenSearchingWithoutPostingIndex_thenSearchesDatabase(){
+        SearchType searchType = SearchType.HASHTAG;
+        String searchKeyword = "#Java";
+        Pageable pageable = Pageable.ofSize(20);
+        given(hashtagPostingIndex.search(HashtagQuery.parse(searchKeyword))).willReturn(Optional.empty());
+        given(articleRepository.findSummariesBySearch(searchType, searchKeyword, null, pageable)).willReturn(List.of());
+        given(articleCountService.getHashtagCount("java")).willReturn(0L);
+
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        assertThat(articles).isEmpty();
+        then(articleRepository).should().findSummariesBySearch(searchType, searchKeyword, null, pageable);
+        then(articleCountService).should().getHashtagCount("java");
     }
 
     @DisplayName("SearchKeyword X & SearchingHashTag -> EmptyPage")
@@ -229,7 +368,7 @@ class ArticleServiceTest {
 
         Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(hashtagRepository).shouldHaveNoInteractions();
+        then(hashtagService).shouldHaveNoInteractions();
         then(articleRepository).shouldHaveNoInteractions();
     }
 
@@ -239,11 +378,13 @@ class ArticleServiceTest {
         String hashtagName = "java";
         Pageable pageable = Pageable.ofSize(20);
         Article expectedArticle = createArticle();
-        given(articleRepository.findByHashtagNames(List.of(hashtagName),pageable)).willReturn(new PageImpl<>(List.of(expectedArticle),pageable,1));
+        given(articleRepository.findBySearch(SearchType.HASHTAG, hashtagName, null, pageable)).willReturn(List.of(expectedArticle));
+        given(articleCountService.getHashtagCount(hashtagName)).willReturn(1L);
 
         Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
         assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleDto.from(expectedArticle)),pageable,1));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findBySearch(SearchType.HASHTAG, hashtagName, null, pageable);
+        then(articleCountService).should().getHashtagCount(hashtagName);
     }
 
     @DisplayName("없는 hashtag -> emptyPage")
@@ -251,24 +392,24 @@ class ArticleServiceTest {
     void givenNonexistentHashtag_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
         String hashtagName = "해시태그없음";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
+        given(articleRepository.findBySearch(SearchType.HASHTAG, hashtagName, null, pageable)).willReturn(List.of());
+        given(articleCountService.getHashtagCount(hashtagName)).willReturn(0L);
 
         Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtagName, pageable);
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findBySearch(SearchType.HASHTAG, hashtagName, null, pageable);
     }
 
 
-    @DisplayName("Hashtag List -> 존재하는 HashTags")
+    @DisplayName("Hashtag List -> 게시글 수 상위 HashTags")
     @Test
-    void givenNothing_whenCalling_thenReturnsHashtags() {
-        Article article = createArticle();
-        List<String> expectedHashtags = List.of("java", "spring", "boot");
-        given(hashtagRepository.findAllHashtagNames()).willReturn(expectedHashtags);
+    void givenNothing_whenCalling_thenReturnsPopularHashtags() {
+        given(hashtagPopularityIndex.getTopHashtags(HashtagPopularityIndex.MAX_TOP_SIZE)).willReturn(List.of(
+                HashtagCountDto.of("java", 3L), HashtagCountDto.of("spring", 2L), HashtagCountDto.of("boot", 1L)));
 
         List<String> actualHashtags = sut.getHashtags();
-        assertThat(actualHashtags).isEqualTo(expectedHashtags);
-        then(hashtagRepository).should().findAllHashtagNames();
+        assertThat(actualHashtags).containsExactly("java", "spring", "boot");
+        then(hashtagPopularityIndex).should().getTopHashtags(HashtagPopularityIndex.MAX_TOP_SIZE);
     }
     private UserAccount createUserAccount() {
         return createUserAccount("MJ");
@@ -292,10 +433,6 @@ class ArticleServiceTest {
         return article;
     }
 
-    private Hashtag createHashtag(String hashtagName) {
-        return createHashtag(1L, hashtagName);
-    }
-
     private Hashtag createHashtag(Long id, String hashtagName) {
         Hashtag hashtag = Hashtag.of(hashtagName);
         ReflectionTestUtils.setField(hashtag, "id", id);
@@ -0,0 +1,152 @@
+package com.springboot.board.service;
+
+import com.springboot.board.domain.Article;
+import com.springboot.board.domain.Hashtag;
+import com.springboot.board.domain.HashtagOutbox;
+import com.springboot.board.domain.UserAccount;
+import com.springboot.board.repository.ArticleRepository;
+import com.springboot.board.repository.HashtagOutboxRepository;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스로직 - 해시태그 outbox")
+@ExtendWith(MockitoExtension.class)
+class HashtagOutboxServiceTest {
+    @InjectMocks
+    private HashtagOutboxService sut;
+    @Mock
+    private HashtagService hashtagService;
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private HashtagOutboxRepository hashtagOutboxRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @DisplayName("enqueue -> 작업 행 저장 후 커밋 후 처리용 이벤트 발행")
+    @Test
+    void givenArticle_whenEnqueuing_thenSavesOutboxAndPublishesEvent() {
+        given(hashtagOutboxRepository.save(any(HashtagOutbox.class))).willAnswer(invocation -> {
+            HashtagOutbox outbox = invocation.getArgument(0);
+            ReflectionTestUtils.setField(outbox, "id", 10L);
+            return outbox;
+        });
+
+        sut.enqueue(1L, "MJ", Set.of(3L));
+        then(hashtagOutboxRepository).should().save(argThat(outbox -> outbox.getArticleId().equals(1L)
+                && outbox.getOrphanCandidateIdSet().equals(Set.of(3L))
+                && outbox.getNextAttemptAt().isAfter(LocalDateTime.now())));
+        then(eventPublisher).should().publishEvent(new HashtagOutboxService.Enqueued(10L));
+    }
+
+    @DisplayName("본문의 해시태그가 그대로 -> 해시태그는 건드리지 않고 작업만 삭제")
+    @Test
+    void givenSameHashtags_whenProcessing_thenDeletesOutboxWithoutTouchingHashtags() {
+        Article article = createArticle("오타 수정 #java #spring");
+        HashtagOutbox outbox = createOutbox(Set.of());
+        given(hashtagOutboxRepository.findForUpdateById(10L)).willReturn(Optional.of(outbox));
+        given(articleRepository.findForUpdateById(1L)).willReturn(Optional.of(article));
+        given(hashtagService.parseHashtagNames(article.getContent())).willReturn(Set.of("java", "spring"));
+
+        Optional<HashtagOutboxService.Result> result = sut.process(10L);
+        assertThat(result).hasValueSatisfying(value -> assertThat(value.hasChanges()).isFalse());
+        then(hashtagService).should().parseHashtagNames(article.getContent());
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of());
+        then(hashtagService).shouldHaveNoMoreInteractions();
+        then(hashtagOutboxRepository).should().delete(outbox);
+    }
+
+    @DisplayName("본문의 해시태그 일부 변경 -> 바뀐 해시태그만 추가/삭제하고 변경분을 돌려줌")
+    @Test
+    void givenChangedHashtags_whenProcessing_thenAppliesOnlyHashtagDiff() {
+        Article article = createArticle("#java #boot");
+        Set<Hashtag> addedHashtags = new HashSet<>();
+        addedHashtags.add(createHashtag(3L, "boot"));
+        given(hashtagOutboxRepository.findForUpdateById(10L)).willReturn(Optional.of(createOutbox(Set.of())));
+        given(articleRepository.findForUpdateById(1L)).willReturn(Optional.of(article));
+        given(hashtagService.parseHashtagNames(article.getContent())).willReturn(Set.of("java", "boot"));
+        given(hashtagService.upsertHashtags(Set.of("boot"), "MJ")).willReturn(addedHashtags);
+
+        Optional<HashtagOutboxService.Result> result = sut.process(10L);
+        assertThat(article)
+                .extracting("hashtags", as(InstanceOfAssertFactories.COLLECTION))
+                .extracting("hashtagName").containsExactlyInAnyOrder("java", "boot");
+        assertThat(result).contains(new HashtagOutboxService.Result(1L, Set.of("spring"), Set.of("boot")));
+        then(hashtagService).should().upsertHashtags(Set.of("boot"), "MJ");
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(2L));
+    }
+
+    @DisplayName("삭제된 게시글 -> 고아 후보 해시태그만 정리")
+    @Test
+    void givenDeletedArticle_whenProcessing_thenDeletesOrphanCandidates() {
+        HashtagOutbox outbox = createOutbox(Set.of(1L, 2L));
+        given(hashtagOutboxRepository.findForUpdateById(10L)).willReturn(Optional.of(outbox));
+        given(articleRepository.findForUpdateById(1L)).willReturn(Optional.empty());
+
+        Optional<HashtagOutboxService.Result> result = sut.process(10L);
+        assertThat(result).contains(new HashtagOutboxService.Result(1L, Set.of(), Set.of()));
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(1L, 2L));
+        then(hashtagOutboxRepository).should().delete(outbox);
+    }
+
+    @DisplayName("이미 처리된 작업 -> 아무것도 하지 않음")
+    @Test
+    void givenProcessedOutbox_whenProcessing_thenDoesNothing() {
+        given(hashtagOutboxRepository.findForUpdateById(10L)).willReturn(Optional.empty());
+
+        assertThat(sut.process(10L)).isEmpty();
+        then(articleRepository).shouldHaveNoInteractions();
+        then(hashtagService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("처리 실패 기록 -> 시도 횟수 증가, 실패할수록 다음 시도를 늦춤")
+    @Test
+    void givenFailure_whenRecording_thenBacksOffNextAttempt() {
+        HashtagOutbox outbox = createOutbox(Set.of());
+        given(hashtagOutboxRepository.findById(10L)).willReturn(Optional.of(outbox));
+
+        sut.recordFailure(10L, new IllegalStateException("boom"));
+        LocalDateTime firstRetryAt = outbox.getNextAttemptAt();
+        sut.recordFailure(10L, new IllegalStateException("boom"));
+
+        assertThat(outbox.getAttempts()).isEqualTo(2);
+        assertThat(outbox.getLastError()).contains("boom");
+        assertThat(outbox.getNextAttemptAt()).isAfter(firstRetryAt.plusSeconds(20));
+    }
+
+    private HashtagOutbox createOutbox(Set<Long> orphanCandidateIds) {
+        HashtagOutbox outbox = HashtagOutbox.of(1L, "MJ", orphanCandidateIds, LocalDateTime.now());
+        ReflectionTestUtils.setField(outbox, "id", 10L);
+        return outbox;
+    }
+
+    private Article createArticle(String content) {
+        Article article = Article.of(UserAccount.of("MJ", "pw", "MJ@email.com", "MJ", null), "title", content);
+        article.addHashtags(Set.of(
+                createHashtag(1L, "java"),
+                createHashtag(2L, "spring")));
+        ReflectionTestUtils.setField(article, "id", 1L);
+        return article;
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
+}
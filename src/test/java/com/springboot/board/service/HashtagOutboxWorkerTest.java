@@ -0,0 +1,72 @@
+package com.springboot.board.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("해시태그 outbox 처리기")
+@ExtendWith(MockitoExtension.class)
+class HashtagOutboxWorkerTest {
+    @InjectMocks
+    private HashtagOutboxWorker sut;
+    @Mock
+    private HashtagOutboxService hashtagOutboxService;
+    @Mock
+    private ArticleCountService articleCountService;
+    @Mock
+    private HashtagPopularityIndex hashtagPopularityIndex;
+    @Mock
+    private HashtagPostingIndex hashtagPostingIndex;
+    @Mock
+    private RenderedPageCache renderedPageCache;
+
+    @DisplayName("커밋 후 이벤트 -> 처리하고 해시태그 변경분을 색인/캐시에 반영")
+    @Test
+    void givenEnqueuedEvent_whenProcessed_thenAppliesHashtagChangesToIndexes() {
+        given(hashtagOutboxService.process(10L)).willReturn(Optional.of(
+                new HashtagOutboxService.Result(1L, Set.of("spring"), Set.of("boot"))));
+
+        sut.onEnqueued(new HashtagOutboxService.Enqueued(10L));
+        then(articleCountService).should().hashtagsChanged(Set.of("spring"), Set.of("boot"));
+        then(hashtagPopularityIndex).should().hashtagsChanged(Set.of("spring"), Set.of("boot"));
+        then(hashtagPostingIndex).should().remove(1L, Set.of("spring"));
+        then(hashtagPostingIndex).should().add(1L, Set.of("boot"));
+        then(renderedPageCache).should().contentChanged();
+    }
+
+    @DisplayName("처리 실패 -> 실패를 기록하고 색인은 그대로")
+    @Test
+    void givenFailure_whenProcessing_thenRecordsFailure() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        given(hashtagOutboxService.process(10L)).willThrow(failure);
+
+        sut.onEnqueued(new HashtagOutboxService.Enqueued(10L));
+        then(hashtagOutboxService).should().recordFailure(10L, failure);
+        then(hashtagPostingIndex).shouldHaveNoInteractions();
+        then(renderedPageCache).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("재시도 -> 처리할 때가 된 작업을 차례로 처리, 이미 처리된 작업은 건너뜀")
+    @Test
+    void givenOutboxesToRetry_whenRetrying_thenProcessesEach() {
+        given(hashtagOutboxService.getOutboxIdsToRetry(100)).willReturn(List.of(10L, 11L));
+        given(hashtagOutboxService.process(10L)).willReturn(Optional.empty());
+        given(hashtagOutboxService.process(11L)).willReturn(Optional.of(
+                new HashtagOutboxService.Result(2L, Set.of(), Set.of("java"))));
+
+        sut.retry();
+        then(hashtagOutboxService).should().process(10L);
+        then(hashtagOutboxService).should().process(11L);
+        then(hashtagPostingIndex).should().add(2L, Set.of("java"));
+        then(renderedPageCache).should(times(1)).contentChanged();
+    }
+}
@@ -0,0 +1,104 @@
+package com.springboot.board.service;
+
+import com.springboot.board.dto.HashtagCountDto;
+import com.springboot.board.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@DisplayName("비즈니스로직 - 해시태그 인기 색인")
+@ExtendWith(MockitoExtension.class)
+class HashtagPopularityIndexTest {
+    @InjectMocks
+    private HashtagPopularityIndex sut;
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @DisplayName("인기 해시태그 -> 게시글 수 내림차순, 같으면 이름순")
+    @Test
+    void givenHashtagCounts_whenGettingTopHashtags_thenReturnsMostPopularFirst() {
+        given(hashtagRepository.findHashtagCounts()).willReturn(List.of(
+                HashtagCountDto.of("java", 3L), HashtagCountDto.of("boot", 5L),
+                HashtagCountDto.of("spring", 3L), HashtagCountDto.of("jpa", 1L)));
+
+        List<HashtagCountDto> top = sut.getTopHashtags(3);
+        assertThat(top).containsExactly(
+                HashtagCountDto.of("boot", 5L), HashtagCountDto.of("java", 3L), HashtagCountDto.of("spring", 3L));
+        then(hashtagRepository).should().findHashtagCounts();
+    }
+
+    @DisplayName("게시글 쓰기 -> DB 재조회 없이 건수 증감, 0건이 된 해시태그는 제외")
+    @Test
+    void givenHashtagChanges_whenGettingTopHashtags_thenAdjustsIncrementally() {
+        given(hashtagRepository.findHashtagCounts()).willReturn(List.of(
+                HashtagCountDto.of("java", 1L), HashtagCountDto.of("spring", 2L)));
+        sut.load();
+
+        sut.hashtagsChanged(Set.of("java"), Set.of("boot"));
+        sut.hashtagsChanged(Set.of(), Set.of("boot", "jpa"));
+
+        assertThat(sut.getHashtagsByPrefix("j", 10)).containsExactly(HashtagCountDto.of("jpa", 1L));
+        assertThat(sut.getTopHashtags(10)).containsExactly(
+                HashtagCountDto.of("boot", 2L), HashtagCountDto.of("spring", 2L), HashtagCountDto.of("jpa", 1L));
+        then(hashtagRepository).should().findHashtagCounts();
+    }
+
+    @DisplayName("재적재 중 게시글 쓰기 -> 새로 읽은 건수에 증감이 반영된다")
+    @Test
+    void givenHashtagChangesWhileLoading_whenReloading_thenKeepsChanges() {
+        given(hashtagRepository.findHashtagCounts()).willReturn(List.of(
+                HashtagCountDto.of("java", 1L), HashtagCountDto.of("spring", 2L)));
+        sut.load();
+        willAnswer(invocation -> {
+            sut.hashtagsChanged(Set.of("spring"), Set.of("boot"));
+            return List.of(HashtagCountDto.of("java", 1L), HashtagCountDto.of("spring", 2L));
+        }).given(hashtagRepository).findHashtagCounts();
+
+        sut.load();
+
+        assertThat(sut.getTopHashtags(10)).containsExactly(
+                HashtagCountDto.of("boot", 1L), HashtagCountDto.of("java", 1L), HashtagCountDto.of("spring", 1L));
+        assertThat(sut.getHashtagsByPrefix("b", 10)).containsExactly(HashtagCountDto.of("boot", 1L));
+    }
+
+    @DisplayName("접두어 자동완성 -> 접두어로 시작하는 해시태그만 게시글 수 순으로")
+    @Test
+    void givenPrefix_whenSearchingHashtags_thenReturnsMatchingHashtagsByPopularity() {
+        given(hashtagRepository.findHashtagCounts()).willReturn(List.of(
+                HashtagCountDto.of("spring", 2L), HashtagCountDto.of("springboot", 4L),
+                HashtagCountDto.of("sql", 9L), HashtagCountDto.of("java", 7L)));
+
+        assertThat(sut.getHashtagsByPrefix("Spr", 10)).containsExactly(
+                HashtagCountDto.of("springboot", 4L), HashtagCountDto.of("spring", 2L));
+        assertThat(sut.getHashtagsByPrefix("s", 1)).containsExactly(HashtagCountDto.of("sql", 9L));
+        assertThat(sut.getHashtagsByPrefix(" ", 10)).isEmpty();
+    }
+
+    @DisplayName("삭제 후 다시 생긴 해시태그 -> 자동완성에 현재 건수로 나온다")
+    @Test
+    void givenRemovedAndReaddedHashtag_whenSearchingHashtags_thenReturnsCurrentCount() {
+        given(hashtagRepository.findHashtagCounts()).willReturn(List.of(
+                HashtagCountDto.of("java", 1L), HashtagCountDto.of("javascript", 3L)));
+        sut.load();
+
+        sut.hashtagsChanged(Set.of("java"), Set.of());
+        assertThat(sut.getHashtagsByPrefix("java", 10)).containsExactly(HashtagCountDto.of("javascript", 3L));
+
+        sut.hashtagsChanged(Set.of(), Set.of("java"));
+        sut.hashtagsChanged(Set.of(), Set.of("java"));
+        assertThat(sut.getHashtagsByPrefix("java", 10)).containsExactly(
+                HashtagCountDto.of("javascript", 3L), HashtagCountDto.of("java", 2L));
+        assertThat(sut.getHashtagsByPrefix("java", 1)).containsExactly(HashtagCountDto.of("javascript", 3L));
+    }
+}
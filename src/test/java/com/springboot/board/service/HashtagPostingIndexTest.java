@@ -0,0 +1,76 @@
+package com.springboot.board.service;
+
+import com.springboot.board.dto.ArticleHashtagDto;
+import com.springboot.board.dto.HashtagQuery;
+import com.springboot.board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스로직 - 해시태그 posting 색인")
+@ExtendWith(MockitoExtension.class)
+class HashtagPostingIndexTest {
+    @InjectMocks
+    private HashtagPostingIndex sut;
+    @Mock
+    private ArticleRepository articleRepository;
+
+    // 1: java, spring / 2: java / 3: spring, legacy / 4: kotlin, spring
+    @BeforeEach
+    void setUp() {
+        given(articleRepository.findArticleHashtags(null, null, 1_000)).willReturn(List.of(
+                ArticleHashtagDto.of(1L, 1L, "java"), ArticleHashtagDto.of(1L, 2L, "spring"),
+                ArticleHashtagDto.of(2L, 1L, "java"),
+                ArticleHashtagDto.of(3L, 2L, "spring"), ArticleHashtagDto.of(3L, 3L, "legacy"),
+                ArticleHashtagDto.of(4L, 2L, "spring"), ArticleHashtagDto.of(4L, 4L, "kotlin")));
+        sut.load();
+    }
+
+    @DisplayName("AND / OR / NOT -> 중복 없는 게시글 id 와 정확한 건수")
+    @Test
+    void givenHashtagQueries_whenSearching_thenReturnsExactArticleIds() {
+        assertThat(sut.search(HashtagQuery.parse("+java +spring")).orElseThrow().articleIds()).containsExactlyInAnyOrder(1L);
+        assertThat(sut.search(HashtagQuery.parse("java spring")).orElseThrow().articleIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(sut.search(HashtagQuery.parse("+spring -legacy java kotlin")).orElseThrow().articleIds()).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(sut.search(HashtagQuery.parse("+spring +없는태그")).orElseThrow().count()).isZero();
+        assertThat(sut.search(HashtagQuery.parse("spring -spring")).orElseThrow().count()).isZero();
+    }
+
+    @DisplayName("제외 조건만 있는 검색어 -> 색인으로 답하지 않음")
+    @Test
+    void givenOnlyExclusions_whenSearching_thenReturnsEmpty() {
+        assertThat(sut.search(HashtagQuery.parse("-legacy"))).isEmpty();
+    }
+
+    @DisplayName("게시글 해시태그 변경 -> posting 에 바로 반영")
+    @Test
+    void givenArticleHashtagChanges_whenSearching_thenReflectsChanges() {
+        sut.add(5L, Set.of("java", "kotlin"));
+        sut.remove(1L, Set.of("java"));
+
+        assertThat(sut.search(HashtagQuery.parse("+java")).orElseThrow().articleIds()).containsExactlyInAnyOrder(2L, 5L);
+        assertThat(sut.search(HashtagQuery.parse("+kotlin +spring")).orElseThrow().articleIds()).containsExactlyInAnyOrder(4L);
+    }
+
+    @DisplayName("결과가 너무 많으면 -> 건수만")
+    @Test
+    void givenTooManyMatches_whenSearching_thenReturnsCountOnly() {
+        for (long id = 100; id < 100 + HashtagPostingIndex.MAX_CANDIDATES + 1; id++) {
+            sut.add(id, Set.of("popular"));
+        }
+
+        HashtagPostingIndex.Result result = sut.search(HashtagQuery.parse("popular")).orElseThrow();
+        assertThat(result.count()).isEqualTo(HashtagPostingIndex.MAX_CANDIDATES + 1);
+        assertThat(result.articleIds()).isNull();
+    }
+}
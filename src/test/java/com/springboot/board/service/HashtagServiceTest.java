@@ -11,15 +11,20 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 
 @DisplayName("비즈니스로직 - Hashtag ")
@@ -78,10 +83,23 @@ class HashtagServiceTest {
                 arguments("#java#스프링 아주 긴 글~~~~~~~~~~~~~~~~~~~~~", Set.of("java", "스프링")),
                 arguments("아주 긴 글~~~~~~~~~~~~~~~~~~~~~#java#스프링", Set.of("java", "스프링")),
                 arguments("아주 긴 글~~~~~~#java#스프링~~~~~~~~~~~~~~~", Set.of("java", "스프링")),
-                arguments("아주 긴 글~~~~~~#java~~~~~~~#스프링~~~~~~~~", Set.of("java", "스프링"))
+                arguments("아주 긴 글~~~~~~#java~~~~~~~#스프링~~~~~~~~", Set.of("java", "스프링")),
+                arguments("#Java#JAVA#Spring_Boot3", Set.of("java", "spring_boot3")),
+                arguments("##java", Set.of("java")),
+                arguments("#ｊａｖａ#java", Set.of("java")),
+                arguments("#ㅋㅋ#스프링ㅋ", Set.of("스프링"))
         );
     }
 
+    @DisplayName("Content_Parsing(streaming) -> 찾은 순서대로 HashtagName 전달 (중복 포함)")
+    @Test
+    void givenContent_whenParsingWithConsumer_thenPassesHashtagNamesInOrder() {
+        List<String> actual = new ArrayList<>();
+
+        HashtagService.parseHashtagNames(new StringBuilder("#Java 본문 #스프링#java"), actual::add);
+        assertThat(actual).containsExactly("java", "스프링", "java");
+    }
+
     @DisplayName("HashtagNames 찾으면-> HashtagSet")
     @Test
     void givenHashtagNames_whenFindingHashtags_thenReturnsHashtagSet() {
@@ -95,4 +113,79 @@ class HashtagServiceTest {
         assertThat(hashtags).hasSize(2);
         then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
     }
-}
\ No newline at end of file
+
+    @DisplayName("HashtagNames upsert (없는 이름 있음) -> upsert 후 다시 읽은 전체 HashtagSet 반환")
+    @Test
+    void givenHashtagNames_whenUpserting_thenUpsertsAndReadsBackAllHashtags() {
+        Set<String> hashtagNames = Set.of("java", "spring");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(createHashtag(1L, "java")));
+        given(hashtagRepository.upsertHashtags(hashtagNames, "MJ")).willReturn(List.of(createHashtag(1L, "java"), createHashtag(2L, "spring")));
+
+        Set<Hashtag> hashtags = sut.upsertHashtags(hashtagNames, "MJ");
+        assertThat(hashtags).extracting("hashtagName").containsExactlyInAnyOrder("java", "spring");
+        then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
+        then(hashtagRepository).should().upsertHashtags(hashtagNames, "MJ");
+    }
+
+    @DisplayName("HashtagNames upsert (모두 존재) -> 이름 조회만으로 HashtagSet 반환")
+    @Test
+    void givenExistingHashtagNames_whenUpserting_thenReturnsHashtagsWithoutInsert() {
+        Set<String> hashtagNames = Set.of("java", "spring");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(createHashtag(1L, "java"), createHashtag(2L, "spring")));
+
+        Set<Hashtag> hashtags = sut.upsertHashtags(hashtagNames, "MJ");
+        assertThat(hashtags).extracting("hashtagName").containsExactlyInAnyOrder("java", "spring");
+        then(hashtagRepository).should(never()).upsertHashtags(any(), any());
+    }
+
+    @DisplayName("HashtagNames X upsert -> DB 조회 없이 빈 HashtagSet")
+    @Test
+    void givenNoHashtagNames_whenUpserting_thenReturnsEmptySetWithoutQuery() {
+        Set<Hashtag> hashtags = sut.upsertHashtags(Set.of(), "MJ");
+
+        assertThat(hashtags).isEmpty();
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("HashtagIds -> 게시글 없는 해시태그만 한 번에 삭제")
+    @Test
+    void givenHashtagIds_whenDeletingHashtagsWithoutArticles_thenDeletesInOneStatement() {
+        Set<Long> hashtagIds = Set.of(1L, 2L, 3L);
+        given(hashtagRepository.deleteByIdInAndArticlesIsEmpty(hashtagIds)).willReturn(1);
+
+        sut.deleteHashtagsWithoutArticles(hashtagIds);
+        then(hashtagRepository).should().deleteByIdInAndArticlesIsEmpty(hashtagIds);
+    }
+
+    @DisplayName("백그라운드 정리 -> 게시글 없는 해시태그를 batchSize 개까지 삭제")
+    @Test
+    void givenBatchSize_whenSweepingHashtagsWithoutArticles_thenDeletesOneBatch() {
+        given(hashtagRepository.findIdsWithoutArticles(PageRequest.ofSize(2))).willReturn(List.of(4L, 5L));
+        given(hashtagRepository.deleteByIdInAndArticlesIsEmpty(List.of(4L, 5L))).willReturn(2);
+
+        int deleted = sut.sweepHashtagsWithoutArticles(2);
+        assertThat(deleted).isEqualTo(2);
+        then(hashtagRepository).should().deleteByIdInAndArticlesIsEmpty(List.of(4L, 5L));
+    }
+
+    @DisplayName("사용 중인 해시태그 stream -> chunk 단위 keyset 조회, 마지막 chunk 가 덜 차면 종료")
+    @Test
+    void givenChunkSize_whenStreamingHashtagNamesInUse_thenQueriesChunksLazily() {
+        given(hashtagRepository.findHashtagNamesInUse(null, 2)).willReturn(List.of("blue", "java"));
+        given(hashtagRepository.findHashtagNamesInUse("java", 2)).willReturn(List.of("red", "spring"));
+        given(hashtagRepository.findHashtagNamesInUse("spring", 2)).willReturn(List.of("white"));
+
+        assertThat(sut.streamHashtagNamesInUse(2).limit(2)).containsExactly("blue", "java");
+        then(hashtagRepository).should(never()).findHashtagNamesInUse("java", 2);
+
+        assertThat(sut.streamHashtagNamesInUse(2)).containsExactly("blue", "java", "red", "spring", "white");
+        then(hashtagRepository).should().findHashtagNamesInUse("spring", 2);
+        then(hashtagRepository).should(never()).findHashtagNamesInUse("white", 2);
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
+}
@@ -2,6 +2,7 @@ package com.springboot.board.service;
 
 import com.springboot.board.domain.UserAccount;
 import com.springboot.board.dto.UserAccountDto;
+import com.springboot.board.dto.security.BoardPrincipal;
 import com.springboot.board.repository.UserAccountRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,12 +10,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @DisplayName("비즈니스로직 - 회원")
 @ExtendWith(MockitoExtension.class)
@@ -71,6 +77,64 @@ class UserAccountServiceTest {
         then(userAccountRepository).should().save(userAccount);
     }
 
+    @DisplayName("[Principal] 같은 회원 ID 로 다시 로그인 -> 캐시된 인증 정보, DB 조회 1번")
+    @Test
+    void givenSameUsername_whenSearchingPrincipalTwice_thenQueriesOnce() {
+        String username = "uno";
+        given(userAccountRepository.findById(username)).willReturn(Optional.of(createUserAccount(username)));
+
+        Optional<BoardPrincipal> first = sut.searchPrincipal(username);
+        Optional<BoardPrincipal> second = sut.searchPrincipal(username);
+        assertThat(first).isPresent();
+        assertThat(second).isEqualTo(first);
+        then(userAccountRepository).should(times(1)).findById(username);
+    }
+
+    @DisplayName("[Principal] 없는 회원 ID -> 캐시하지 않는다")
+    @Test
+    void givenNonexistentUsername_whenSearchingPrincipal_thenDoesNotCache() {
+        String username = "wrong-user";
+        given(userAccountRepository.findById(username)).willReturn(Optional.empty());
+
+        assertThat(sut.searchPrincipal(username)).isEmpty();
+        assertThat(sut.searchPrincipal(username)).isEmpty();
+        then(userAccountRepository).should(times(2)).findById(username);
+    }
+
+    @DisplayName("[Principal] 가입(저장) 후 로그인 -> 저장한 회원 정보로 캐시 갱신, DB 조회X")
+    @Test
+    void givenSavedUser_whenSearchingPrincipal_thenReturnsSavedUserWithoutQuery() {
+        UserAccount userAccount = createUserAccount("uno");
+        given(userAccountRepository.save(userAccount)).willReturn(createSigningUpUserAccount("uno"));
+
+        sut.saveUser(userAccount.getUserId(), userAccount.getUserPassword(), userAccount.getEmail(), userAccount.getNickname(), userAccount.getMemo());
+        Optional<BoardPrincipal> principal = sut.searchPrincipal("uno");
+        assertThat(principal).get()
+                .hasFieldOrPropertyWithValue("username", "uno")
+                .hasFieldOrPropertyWithValue("nickname", "nickname");
+        then(userAccountRepository).should(never()).findById(any());
+    }
+
+    @DisplayName("[Principal] 트랜잭션 안에서 가입 -> 커밋 전에는 캐시하지 않고, 롤백되면 캐시하지 않는다")
+    @Test
+    void givenRolledBackSave_whenSearchingPrincipal_thenQueriesDatabase() {
+        UserAccount userAccount = createUserAccount("uno");
+        given(userAccountRepository.save(userAccount)).willReturn(createSigningUpUserAccount("uno"));
+        given(userAccountRepository.findById("uno")).willReturn(Optional.empty());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.saveUser(userAccount.getUserId(), userAccount.getUserPassword(), userAccount.getEmail(), userAccount.getNickname(), userAccount.getMemo());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(sut.searchPrincipal("uno")).isEmpty();
+        then(userAccountRepository).should().findById("uno");
+    }
+
     private UserAccount createUserAccount(String username) {
         return createUserAccount(username, null);
     }